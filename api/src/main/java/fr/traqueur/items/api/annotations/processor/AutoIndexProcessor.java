@@ -0,0 +1,96 @@
+package fr.traqueur.items.api.annotations.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor writing the classes annotated with the zItems {@code @Auto*} annotations
+ * to a resource index ({@value #INDEX_PATH}) at build time.
+ * <p>
+ * The registries read this index at startup instead of scanning the jar with Reflections, which
+ * walks every class of the shaded jar. Jars built without the processor (e.g. third-party addons
+ * compiled against an older API) have no index and are still scanned reflectively.
+ * <p>
+ * The processor is discovered from the compile classpath of every module depending on the API.
+ * Each line of the index holds an annotation name and the binary name of an annotated class,
+ * separated by a tab; lines starting with {@code #} are comments.
+ */
+public class AutoIndexProcessor extends AbstractProcessor {
+
+    /** Location of the index in the compiled jar */
+    public static final String INDEX_PATH = "META-INF/zitems/index";
+
+    private static final Set<String> INDEXED_ANNOTATIONS = Set.of(
+            "fr.traqueur.items.api.annotations.AutoEffect",
+            "fr.traqueur.items.api.annotations.AutoExtractor",
+            "fr.traqueur.items.api.annotations.AutoHook",
+            "fr.traqueur.items.api.annotations.AutoMetadata",
+            "fr.traqueur.items.api.annotations.AutoBlockDataMeta",
+            "fr.traqueur.items.api.annotations.AutoBlockStateMeta"
+    );
+
+    /** Annotation name → annotated class binary names, accumulated over all rounds */
+    private final Map<String, Set<String>> index = new TreeMap<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return INDEXED_ANNOTATIONS;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            String annotationName = annotation.getQualifiedName().toString();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+                    continue;
+                }
+                String className = processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+                index.computeIfAbsent(annotationName, key -> new TreeSet<>()).add(className);
+            }
+        }
+
+        if (roundEnv.processingOver() && !index.isEmpty()) {
+            writeIndex();
+        }
+        // Other processors may also read these annotations
+        return false;
+    }
+
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_PATH);
+            try (Writer writer = resource.openWriter()) {
+                writer.write("# Generated by " + AutoIndexProcessor.class.getName() + ", do not edit\n");
+                for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                    for (String className : entry.getValue()) {
+                        writer.write(entry.getKey() + '\t' + className + '\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + INDEX_PATH + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package fr.traqueur.items.api.blocks;
+
+/**
+ * Answer of {@link LocationAccess#canBuildArea(org.bukkit.entity.Player, org.bukkit.World, org.bukkit.util.BoundingBox)}
+ * for a whole area.
+ */
+public enum AreaAccess {
+
+    /**
+     * The player has access to every block of the area.
+     */
+    ALLOWED,
+
+    /**
+     * The player has access to no block of the area.
+     */
+    DENIED,
+
+    /**
+     * The answer differs between blocks, or could not be resolved for the whole area:
+     * each block must be checked with {@link LocationAccess#hasAccess(org.bukkit.entity.Player, org.bukkit.Location)}.
+     */
+    MIXED
+}
@@ -1,11 +1,14 @@
 package fr.traqueur.items.api.blocks;
 
+import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Provider interface for detecting and handling custom blocks from various sources
@@ -65,4 +68,18 @@ public interface CustomBlockProvider {
      */
     void placeCustomBlock(String itemId, Block block);
 
+    /**
+     * Gets the materials the custom blocks of this provider can be made of (e.g. note blocks,
+     * mushroom blocks, tripwires, or barriers for furniture hitboxes).
+     *
+     * <p>The registry only queries this provider for blocks of these materials, so mining
+     * vanilla blocks never reaches the provider. The default implementation returns null,
+     * meaning custom blocks may use any material and the provider is queried for every block.
+     *
+     * @return the base materials of the custom blocks, or null if they can use any material
+     */
+    default @Nullable Set<Material> baseMaterials() {
+        return null;
+    }
+
 }
@@ -1,7 +1,9 @@
 package fr.traqueur.items.api.blocks;
 
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
 
 /**
  * Represents a functional interface to check if a player has access to a specific location.
@@ -18,4 +20,23 @@ public interface LocationAccess {
      */
     boolean hasAccess(Player player, Location location);
 
+    /**
+     * Checks if the given player has access to every block of an area at once.
+     * <p>
+     * Effects breaking many blocks (Hammer, VeinMiner, FarmingHoe) call this once for the area they
+     * affect, and only fall back to {@link #hasAccess(Player, Location)} for each block when the
+     * answer is {@link AreaAccess#MIXED}. Implementations should resolve whatever their protection
+     * plugin can answer for a whole area (regions, claims, islands) and return {@code MIXED} when
+     * unsure. The default implementation always returns {@code MIXED}.
+     *
+     * @param player the player whose access is being checked
+     * @param world  the world of the area
+     * @param area   the area, covering the blocks whose coordinates lie inside it
+     *               (e.g. {@link BoundingBox#of(org.bukkit.block.Block, org.bukkit.block.Block)})
+     * @return the access of the player to the whole area
+     */
+    default AreaAccess canBuildArea(Player player, World world, BoundingBox area) {
+        return AreaAccess.MIXED;
+    }
+
 }
@@ -40,23 +40,22 @@ public record Applicator(
 
         // Validate ingredients if any
         if (ingredients != null && !ingredients.isEmpty()) {
-            // Create a mutable copy of inputItems to track consumption
-            List<ItemStack> remainingInputs = inputItems.stream()
-                    .map(ItemStack::clone)
-                    .toList();
+            // Track the units consumed from each input instead of copying the inputs
+            int[] consumed = new int[inputItems.size()];
 
             for (Ingredient ingredient : ingredients) {
                 boolean found = false;
 
                 // Try to find and consume this ingredient
-                for (ItemStack input : remainingInputs) {
+                for (int i = 0; i < inputItems.size(); i++) {
+                    ItemStack input = inputItems.get(i);
                     if (input == null || input.getType().isAir()) {
                         continue;
                     }
 
-                    if (ingredient.isSimilar(input) && input.getAmount() >= 1) {
+                    if (input.getAmount() > consumed[i] && ingredient.isSimilar(input)) {
                         found = true;
-                        input.setAmount(input.getAmount() - 1);
+                        consumed[i]++;
                         break;
                     }
                 }
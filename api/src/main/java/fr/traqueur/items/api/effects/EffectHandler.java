@@ -41,6 +41,7 @@ public sealed interface EffectHandler<T extends EffectSettings> permits EffectHa
      * from the implementing class, eliminating the need for manual implementation.
      * <p>
      * Handlers can override this method if needed, but it's generally not necessary.
+     * The registry resolves it once into the handler's {@link HandlerDescriptor}.
      *
      * @return the Class object for the settings type
      */
@@ -78,8 +79,14 @@ public sealed interface EffectHandler<T extends EffectSettings> permits EffectHa
         return switch (this) {
             case SingleEventEffectHandler<?, ?> singleEventEffectHandler ->
                     singleEventEffectHandler.eventType().isInstance(event);
-            case MultiEventEffectHandler<?> multiEventEffectHandler ->
-                    multiEventEffectHandler.eventTypes().stream().anyMatch(type -> type.isInstance(event));
+            case MultiEventEffectHandler<?> multiEventEffectHandler -> {
+                for (Class<? extends Event> type : multiEventEffectHandler.eventTypes()) {
+                    if (type.isInstance(event)) {
+                        yield true;
+                    }
+                }
+                yield false;
+            }
             case NoEventEffectHandler<?> __ -> event == null;
         };
     }
@@ -87,6 +94,7 @@ public sealed interface EffectHandler<T extends EffectSettings> permits EffectHa
     /**
      * Returns a set of effect handler classes that are incompatible with this handler.
      * This is determined by the {@link IncompatibleWith} annotation on the implementing class.
+     * See {@link HandlerDescriptor#isIncompatibleWith(HandlerDescriptor)} for the cached check.
      *
      * @return set of incompatible effect handler classes, or empty set if none
      */
@@ -128,6 +136,7 @@ public sealed interface EffectHandler<T extends EffectSettings> permits EffectHa
          * from the implementing class, eliminating the need for manual implementation.
          * <p>
          * Handlers can override this method if needed, but it's generally not necessary.
+         * The registry resolves it once into the handler's {@link HandlerDescriptor}.
          *
          * @return the Class object for the event type
          */
@@ -157,6 +166,10 @@ public sealed interface EffectHandler<T extends EffectSettings> permits EffectHa
 
     /**
      * An effect handler that does not respond to any event.
+     * <p>
+     * It runs when the effect is applied to an item, including when an item carrying it as a base
+     * effect is built. The player of the context is null when there is no player, e.g. for items
+     * given by the console.
      *
      * @param <T> the type of effect settings
      */
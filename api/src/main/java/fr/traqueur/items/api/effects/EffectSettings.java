@@ -1,5 +1,6 @@
 package fr.traqueur.items.api.effects;
 
+import fr.traqueur.items.api.settings.MaterialMatcher;
 import fr.traqueur.structura.annotations.Polymorphic;
 import fr.traqueur.structura.api.Loadable;
 import org.bukkit.Material;
@@ -44,39 +45,14 @@ public interface EffectSettings extends Loadable {
 
     /**
      * Checks if this effect can be applied to the given material.
-     * This default implementation provides the filtering logic based on materials, tags, and blacklist mode.
+     * This default implementation provides the filtering logic based on materials, tags, and blacklist mode,
+     * precompiled once per settings instance by {@link MaterialMatcher#applicability(EffectSettings)}.
      *
      * @param material The material to check
      * @return true if the effect can be applied, false otherwise
      */
     default boolean canApplyTo(Material material) {
-        List<Material> materials = applicableMaterials();
-        List<Tag<Material>> tags = applicableTags();
-
-        // If nothing is configured, allow everything
-        if ((materials == null || materials.isEmpty()) && (tags == null || tags.isEmpty())) {
-            return true;
-        }
-
-        // Check if material is in materials list
-        boolean inMaterials = materials != null && materials.contains(material);
-
-        // Check if material is in any of the tags
-        boolean inTags = false;
-        if (tags != null) {
-            for (Tag<Material> tag : tags) {
-                if (tag.isTagged(material)) {
-                    inTags = true;
-                    break;
-                }
-            }
-        }
-
-        boolean found = inMaterials || inTags;
-
-        // Blacklist mode: return true if NOT found in lists
-        // Whitelist mode: return true if found in lists
-        return applicabilityBlacklisted() != found;
+        return MaterialMatcher.applicability(this).matches(material);
     }
 
     /**
@@ -2,7 +2,9 @@ package fr.traqueur.items.api.effects;
 
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Orchestrates the execution pipeline of effects.
@@ -82,4 +84,31 @@ public interface EffectsDispatcher {
      * @return the EffectContext after all handlers have executed, or null if no effects were found
      */
     EffectContext dispatch(Player player, ItemStack itemSource, Event event);
+
+    /**
+     * Dispatches an event for an item read from the player's equipment.
+     * <p>
+     * Implementations may resolve the item's effects from a per-player snapshot of the
+     * equipment instead of reading the item. Defaults to {@link #dispatch(Player, ItemStack, Event)}.
+     *
+     * @param player     the player who triggered the event
+     * @param itemSource the ItemStack that may contain effects
+     * @param event      the Bukkit event that triggered this dispatch
+     * @param slot       the equipment slot holding the item, or null if the item is not equipped
+     * @return the EffectContext after all handlers have executed, or null if no effects were found
+     */
+    default EffectContext dispatch(Player player, ItemStack itemSource, Event event, @Nullable EquipmentSlot slot) {
+        return dispatch(player, itemSource, event);
+    }
+
+    /**
+     * Invalidates every compiled effect pipeline held by this dispatcher.
+     * <p>
+     * The dispatcher resolves effects and handlers once per distinct effect list and
+     * caches the result. This method must be called whenever the
+     * {@link fr.traqueur.items.api.registries.EffectsRegistry} or the
+     * {@link fr.traqueur.items.api.registries.HandlersRegistry} content changes,
+     * so the next dispatch recompiles against the new registries.
+     */
+    void invalidateCache();
 }
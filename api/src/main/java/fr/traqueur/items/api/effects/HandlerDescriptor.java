@@ -0,0 +1,99 @@
+package fr.traqueur.items.api.effects;
+
+import fr.traqueur.items.api.annotations.AutoEffect;
+import fr.traqueur.items.api.annotations.IncompatibleWith;
+import org.bukkit.event.Event;
+
+import java.util.Set;
+
+/**
+ * Immutable metadata of a registered {@link EffectHandler}, resolved once at registration.
+ * <p>
+ * The default {@link EffectHandler#settingsType()}, {@link EffectHandler.SingleEventEffectHandler#eventType()}
+ * and {@link EffectHandler#getIncompatibleHandlers()} implementations walk the class hierarchy or read
+ * annotations on every call. The descriptor keeps their results so dispatch, validation and listener
+ * registration never use reflection.
+ *
+ * @param id                   the effect type (handler ID)
+ * @param handler              the handler instance
+ * @param settingsType         the settings class of the handler
+ * @param eventTypes           the event types the handler responds to, empty for NoEvent handlers
+ * @param priority             the execution priority, higher first
+ * @param incompatibleHandlers the handler classes this handler cannot be combined with
+ * @param paperOnly            whether the handler is annotated {@link AutoEffect.PaperEffect}
+ * @param spigotOnly           whether the handler is annotated {@link AutoEffect.SpigotEffect}
+ */
+public record HandlerDescriptor(String id,
+                                EffectHandler<?> handler,
+                                Class<? extends EffectSettings> settingsType,
+                                Set<Class<? extends Event>> eventTypes,
+                                int priority,
+                                Set<Class<? extends EffectHandler<?>>> incompatibleHandlers,
+                                boolean paperOnly,
+                                boolean spigotOnly) {
+
+    /**
+     * Resolves the descriptor of a handler.
+     *
+     * @param id      the effect type (handler ID)
+     * @param handler the handler instance
+     * @return the descriptor
+     */
+    public static HandlerDescriptor of(String id, EffectHandler<?> handler) {
+        Class<?> handlerClass = handler.getClass();
+        Set<Class<? extends Event>> eventTypes = switch (handler) {
+            case EffectHandler.SingleEventEffectHandler<?, ?> single -> Set.of(single.eventType());
+            case EffectHandler.MultiEventEffectHandler<?> multi -> Set.copyOf(multi.eventTypes());
+            case EffectHandler.NoEventEffectHandler<?> __ -> Set.of();
+        };
+        return new HandlerDescriptor(
+                id,
+                handler,
+                handler.settingsType(),
+                eventTypes,
+                handler.priority(),
+                Set.copyOf(handler.getIncompatibleHandlers()),
+                handlerClass.isAnnotationPresent(AutoEffect.PaperEffect.class),
+                handlerClass.isAnnotationPresent(AutoEffect.SpigotEffect.class)
+        );
+    }
+
+    /**
+     * Checks whether the handler responds to no event.
+     *
+     * @return true for NoEvent handlers
+     */
+    public boolean noEvent() {
+        return handler instanceof EffectHandler.NoEventEffectHandler<?>;
+    }
+
+    /**
+     * Same as {@link EffectHandler#canApply(Event)}, without reflection.
+     *
+     * @param event the event to check, or null for NoEvent application
+     * @return true if the handler can be applied to the event
+     */
+    public boolean canApply(Event event) {
+        if (event == null) {
+            return noEvent();
+        }
+        for (Class<? extends Event> eventType : eventTypes) {
+            if (eventType.isInstance(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether this handler and another cannot be combined on the same item,
+     * in either direction (see {@link IncompatibleWith}).
+     *
+     * @param other the other handler
+     * @return true if the handlers are incompatible
+     */
+    public boolean isIncompatibleWith(HandlerDescriptor other) {
+        return incompatibleHandlers.contains(other.handler().getClass())
+                || other.incompatibleHandlers().contains(handler.getClass());
+    }
+}
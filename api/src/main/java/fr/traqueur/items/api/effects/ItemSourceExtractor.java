@@ -2,6 +2,7 @@ package fr.traqueur.items.api.effects;
 
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
@@ -33,8 +34,30 @@ public interface ItemSourceExtractor<E extends Event> {
      *
      * @param player     the player who triggered the event
      * @param itemSource the ItemStack that may contain effects
+     * @param slot       the equipment slot holding the item, or null if the item is not equipped.
+     *                   Equipped items are resolved through the player's equipment snapshot.
      */
-    record ExtractionResult(Player player, ItemStack itemSource) {
+    record ExtractionResult(Player player, ItemStack itemSource, @Nullable EquipmentSlot slot) {
+
+        /**
+         * Creates a result for an item that is not read from the player's equipment.
+         *
+         * @param player     the player who triggered the event
+         * @param itemSource the ItemStack that may contain effects
+         */
+        public ExtractionResult(Player player, ItemStack itemSource) {
+            this(player, itemSource, null);
+        }
+
+        /**
+         * Creates a result for the item held in the player's main hand.
+         *
+         * @param player the player who triggered the event
+         * @return the extraction result
+         */
+        public static ExtractionResult mainHand(Player player) {
+            return new ExtractionResult(player, player.getInventory().getItemInMainHand(), EquipmentSlot.HAND);
+        }
 
         /**
          * Checks if the extraction was successful and the result is valid.
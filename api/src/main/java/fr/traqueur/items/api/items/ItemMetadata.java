@@ -1,5 +1,7 @@
 package fr.traqueur.items.api.items;
 
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
+import fr.traqueur.items.api.utils.ItemUtil;
 import fr.traqueur.structura.annotations.Polymorphic;
 import fr.traqueur.structura.api.Loadable;
 import org.bukkit.entity.Player;
@@ -11,6 +13,8 @@ import org.jetbrains.annotations.Nullable;
  * Each implementation represents a specific type of metadata that can be applied to an ItemStack.
  * <p>
  * The discriminator key is determined by the YAML section name (e.g., "food", "leather-armor", "potion").
+ * <p>
+ * Meta-based metadata should implement {@link MetaBased} so they share the meta opened by the item build.
  */
 @Polymorphic(useKey = true)
 public interface ItemMetadata extends Loadable {
@@ -22,4 +26,32 @@ public interface ItemMetadata extends Loadable {
      * @param player    the player context (can be null)
      */
     void apply(ItemStack itemStack, @Nullable Player player);
-}
\ No newline at end of file
+
+    /**
+     * Applies this metadata within a meta transaction.
+     * Defaults to {@link #apply(ItemStack, Player)} on the committed stack.
+     *
+     * @param transaction the open meta transaction of the item
+     * @param player      the player context (can be null)
+     */
+    default void apply(ItemMetaTransaction transaction, @Nullable Player player) {
+        apply(transaction.itemStack(), player);
+    }
+
+    /**
+     * Metadata that only edits the item meta.
+     * Implementations apply themselves within a meta transaction, and the stack variant opens one of its own.
+     */
+    interface MetaBased extends ItemMetadata {
+
+        @Override
+        void apply(ItemMetaTransaction transaction, @Nullable Player player);
+
+        @Override
+        default void apply(ItemStack itemStack, @Nullable Player player) {
+            try (ItemMetaTransaction transaction = ItemUtil.openMeta(itemStack)) {
+                apply(transaction, player);
+            }
+        }
+    }
+}
@@ -5,7 +5,9 @@ import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -55,4 +57,28 @@ public interface CustomBlockProviderRegistry extends Registry<String, CustomBloc
      * @return Optional containing the custom ItemStack, or empty if not a custom block
      */
     Optional<List<ItemStack>> getCustomBlockDrop(Block block, Player player);
+
+    /**
+     * Resolves the custom drops of many blocks in a single pass over the providers.
+     *
+     * <p>Each provider is queried once for all blocks not yet claimed by a previous
+     * provider, in registration order. Blocks missing from the result are not custom blocks.
+     *
+     * <p><b>Important:</b> Same contract as {@link #getCustomBlockDrop(Block, Player)}:
+     * only call this for blocks confirmed to be broken.
+     *
+     * @param blocks the blocks being broken
+     * @param player the player breaking the blocks (may be null)
+     * @return the custom drops of the custom blocks, keyed by block
+     */
+    Map<Block, List<ItemStack>> getCustomBlockDrops(Collection<Block> blocks, Player player);
+
+    /**
+     * Gets the providers that may own a block, based on the {@link CustomBlockProvider#baseMaterials()}
+     * they declare, in registration order.
+     *
+     * @param block the block
+     * @return the providers to query for the block, empty if it cannot be a custom block
+     */
+    List<CustomBlockProvider> getProviders(Block block);
 }
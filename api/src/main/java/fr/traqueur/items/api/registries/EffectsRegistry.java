@@ -3,11 +3,19 @@ package fr.traqueur.items.api.registries;
 import fr.traqueur.items.api.ItemsPlugin;
 import fr.traqueur.items.api.effects.Effect;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Registry for managing Effect instances.
  */
 public abstract class EffectsRegistry extends FileBasedRegistry<String, Effect> {
 
+    /** Effect types used by the registered effects, null when stale */
+    private volatile Set<String> usedTypes;
+    /** Whether effects are being loaded from the folder */
+    private boolean loading;
+
     /**
      * Constructs an EffectsRegistry with the specified ItemsPlugin.
      *
@@ -17,4 +25,71 @@ public abstract class EffectsRegistry extends FileBasedRegistry<String, Effect>
     protected EffectsRegistry(ItemsPlugin plugin, String directory) {
         super(plugin, directory, "Effects Registry");
     }
+
+    /**
+     * Gets the effect types (handler IDs) used by at least one registered effect.
+     * <p>
+     * Items only reference registered effects, so a type outside this set cannot be carried by any item.
+     *
+     * @return an unmodifiable set of effect types
+     */
+    public Set<String> getUsedTypes() {
+        Set<String> types = this.usedTypes;
+        if (types == null) {
+            Set<String> collected = new HashSet<>();
+            for (Effect effect : this.storage.values()) {
+                collected.add(effect.type());
+            }
+            types = Set.copyOf(collected);
+            this.usedTypes = types;
+        }
+        return types;
+    }
+
+    @Override
+    public void loadFromFolder() {
+        this.loading = true;
+        try {
+            super.loadFromFolder();
+        } finally {
+            this.loading = false;
+        }
+        this.usedTypes = null;
+    }
+
+    @Override
+    public void register(String id, Effect effect) {
+        boolean newType = !this.loading && !getUsedTypes().contains(effect.type());
+        super.register(id, effect);
+        this.usedTypes = null;
+        if (!this.loading) {
+            onEffectsChanged();
+        }
+        if (newType) {
+            onUsedTypesChanged();
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.usedTypes = null;
+        if (!this.loading) {
+            onEffectsChanged();
+        }
+    }
+
+    /**
+     * Called when effects are registered or cleared outside of a folder load, so anything compiled
+     * from the previous effects can be discarded. Folder loads call their own invalidation instead.
+     */
+    protected void onEffectsChanged() {
+    }
+
+    /**
+     * Called when an effect registered outside of a folder load uses a type no other effect used,
+     * so the events of that type can be listened to. Folder loads are followed by a full refresh instead.
+     */
+    protected void onUsedTypesChanged() {
+    }
 }
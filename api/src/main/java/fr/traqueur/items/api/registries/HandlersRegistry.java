@@ -1,8 +1,12 @@
 package fr.traqueur.items.api.registries;
 
 import fr.traqueur.items.api.effects.EffectHandler;
+import fr.traqueur.items.api.effects.HandlerDescriptor;
+import org.bukkit.event.Event;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -13,6 +17,7 @@ import java.util.Set;
  *   <li>Discovering EffectHandlers via package scanning</li>
  *   <li>Storing handlers by their effect ID (from @EffectMeta annotation)</li>
  *   <li>Managing polymorphic EffectSettings registration</li>
+ *   <li>Indexing handlers by the event classes they respond to</li>
  * </ul>
  * <p>
  * Example usage:
@@ -50,4 +55,53 @@ public interface HandlersRegistry extends Registry<String, EffectHandler<?>> {
      * @return an unmodifiable set of package names
      */
     Set<String> getScannedPackages();
+
+    /**
+     * Gets the descriptor of a registered handler, resolved once at registration.
+     * <p>
+     * Hot paths should read the handler metadata (settings type, event types, priority,
+     * incompatibilities) from the descriptor rather than from the handler, whose default
+     * implementations use reflection.
+     *
+     * @param effectId the effect type (handler ID)
+     * @return the descriptor, or null if no handler is registered with this ID
+     */
+    HandlerDescriptor getDescriptor(String effectId);
+
+    /**
+     * Gets the handlers that respond to the given event class.
+     * <p>
+     * The lookup is backed by an immutable index built from the event types declared by
+     * {@link EffectHandler.SingleEventEffectHandler} and {@link EffectHandler.MultiEventEffectHandler}
+     * implementations. A handler declared for a supertype (e.g. {@code PlayerEvent}) is also
+     * returned for its subclasses (e.g. {@code PlayerInteractEvent}).
+     *
+     * @param eventClass the concrete event class
+     * @return an unmodifiable list of applicable handlers, empty if none
+     */
+    List<EffectHandler<?>> getHandlersFor(Class<? extends Event> eventClass);
+
+    /**
+     * Gets every event type declared by the registered handlers.
+     *
+     * @return an unmodifiable set of declared event types
+     */
+    Set<Class<? extends Event>> getHandledEventTypes();
+
+    /**
+     * Gets the event types declared by the handlers of the given effect types.
+     * <p>
+     * Types without a registered handler are ignored.
+     *
+     * @param effectTypes the effect types (handler IDs)
+     * @return an unmodifiable set of declared event types
+     */
+    Set<Class<? extends Event>> getHandledEventTypes(Collection<String> effectTypes);
+
+    /**
+     * Rebuilds the event class index from the currently registered handlers.
+     * <p>
+     * The index is also rebuilt lazily on first access after a registration change.
+     */
+    void rebuildEventIndex();
 }
\ No newline at end of file
@@ -78,7 +78,7 @@ import org.jetbrains.annotations.NotNull;
  *
  * <h2>Performance Considerations</h2>
  * <ul>
- *   <li><b>Memory Cache:</b> Implementation maintains an in-memory Guava Table for fast lookups</li>
+ *   <li><b>Memory Cache:</b> Implementation maintains an in-memory primitive chunk map with a per-world item ID palette</li>
  *   <li><b>Position Packing:</b> Uses 32-bit integers instead of full coordinates</li>
  *   <li><b>Chunk-Based Storage:</b> Only loads tracking data for active chunks</li>
  *   <li><b>Lazy Persistence:</b> PDC writes occur on chunk unload</li>
@@ -39,37 +39,13 @@ public interface MaterialFilterSettings extends EffectSettings {
 
     /**
      * Checks if a block can be processed based on materials and tags configuration.
-     * This default implementation provides the filtering logic.
+     * This default implementation provides the filtering logic, precompiled once per settings
+     * instance by {@link MaterialMatcher#breakable(MaterialFilterSettings)}.
      *
      * @param block The block to check
      * @return true if the block can be processed, false otherwise
      */
     default boolean isBreakable(Block block) {
-        Material blockType = block.getType();
-
-        // Don't process air or liquid
-        if (blockType.isAir() || block.isLiquid()) {
-            return false;
-        }
-
-        // Check if block is in materials list
-        boolean inMaterials = materials() != null && materials().contains(blockType);
-
-        // Check if block is in any of the tags
-        boolean inTags = false;
-        if (tags() != null) {
-            for (Tag<Material> tag : tags()) {
-                if (tag.isTagged(blockType)) {
-                    inTags = true;
-                    break;
-                }
-            }
-        }
-
-        boolean found = inMaterials || inTags;
-
-        // Blacklist mode: return true if NOT found in lists
-        // Whitelist mode: return true if found in lists
-        return blacklisted() != found;
+        return MaterialMatcher.breakable(this).matches(block.getType());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package fr.traqueur.items.api.settings;
+
+import fr.traqueur.items.api.effects.EffectSettings;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Precompiled material filter.
+ * <p>
+ * Materials and tags are flattened once into an {@link EnumSet} holding the final answer
+ * (blacklist mode is applied at compile time), so {@link #matches(Material)} is a single bit test
+ * instead of a list scan plus one {@link Tag#isTagged(org.bukkit.Keyed)} call per tag.
+ * <p>
+ * Tag contents are captured at compile time. Matchers compiled through a {@link Cache} are
+ * discarded by {@link #invalidateCaches()}, which the plugin calls on reload.
+ */
+public final class MaterialMatcher {
+
+    private static final List<Cache<?>> CACHES = new ArrayList<>();
+
+    private static final Cache<EffectSettings> APPLICABILITY = new Cache<>(settings -> {
+        List<Material> materials = settings.applicableMaterials();
+        List<Tag<Material>> tags = settings.applicableTags();
+        // If nothing is configured, allow everything
+        if ((materials == null || materials.isEmpty()) && (tags == null || tags.isEmpty())) {
+            return all();
+        }
+        return compile(materials, tags, settings.applicabilityBlacklisted());
+    });
+
+    private static final Cache<MaterialFilterSettings> BREAKABLE = new Cache<>(settings -> {
+        EnumSet<Material> breakable = compile(settings.materials(), settings.tags(), settings.blacklisted()).materials;
+        // Never process air or liquid
+        breakable.removeIf(Material::isAir);
+        breakable.remove(Material.WATER);
+        breakable.remove(Material.LAVA);
+        return new MaterialMatcher(breakable);
+    });
+
+    private static final MaterialMatcher ALL = new MaterialMatcher(EnumSet.allOf(Material.class));
+
+    private final EnumSet<Material> materials;
+
+    private MaterialMatcher(EnumSet<Material> materials) {
+        this.materials = materials;
+    }
+
+    /**
+     * Compiles a matcher from materials and tags.
+     * <p>
+     * In whitelist mode the matcher accepts materials found in the lists,
+     * in blacklist mode it accepts every other material.
+     *
+     * @param materials   the materials, or null
+     * @param tags        the tags, or null
+     * @param blacklisted true for blacklist mode, false for whitelist mode
+     * @return the compiled matcher
+     */
+    public static MaterialMatcher compile(@Nullable List<Material> materials, @Nullable List<Tag<Material>> tags, boolean blacklisted) {
+        EnumSet<Material> found = EnumSet.noneOf(Material.class);
+        if (materials != null) {
+            for (Material material : materials) {
+                if (material != null) {
+                    found.add(material);
+                }
+            }
+        }
+        if (tags != null) {
+            for (Tag<Material> tag : tags) {
+                if (tag != null) {
+                    found.addAll(tag.getValues());
+                }
+            }
+        }
+        return new MaterialMatcher(blacklisted ? EnumSet.complementOf(found) : found);
+    }
+
+    /**
+     * Gets a matcher accepting every material.
+     *
+     * @return the matcher
+     */
+    public static MaterialMatcher all() {
+        return ALL;
+    }
+
+    /**
+     * Gets the compiled applicability matcher of effect settings, used by {@link EffectSettings#canApplyTo(Material)}.
+     *
+     * @param settings the effect settings
+     * @return the cached matcher
+     */
+    public static MaterialMatcher applicability(EffectSettings settings) {
+        return APPLICABILITY.get(settings);
+    }
+
+    /**
+     * Gets the compiled block matcher of filter settings, used by {@link MaterialFilterSettings#isBreakable(org.bukkit.block.Block)}.
+     * Air and liquids never match.
+     *
+     * @param settings the filter settings
+     * @return the cached matcher
+     */
+    public static MaterialMatcher breakable(MaterialFilterSettings settings) {
+        return BREAKABLE.get(settings);
+    }
+
+    /**
+     * Discards every cached matcher. Must be called when settings are reloaded.
+     */
+    public static void invalidateCaches() {
+        synchronized (CACHES) {
+            CACHES.forEach(Cache::clear);
+        }
+    }
+
+    /**
+     * Checks whether a material matches.
+     *
+     * @param material the material
+     * @return true if the material matches
+     */
+    public boolean matches(Material material) {
+        return material != null && materials.contains(material);
+    }
+
+    /**
+     * Identity-keyed cache of matchers compiled from immutable settings objects.
+     * Settings records are replaced on reload, so entries are keyed by instance and not by value.
+     *
+     * @param <K> the settings type
+     */
+    public static final class Cache<K> {
+
+        private final Map<K, MaterialMatcher> matchers;
+        private final Function<K, MaterialMatcher> compiler;
+
+        /**
+         * Creates a cache, cleared along with the others by {@link #invalidateCaches()}.
+         *
+         * @param compiler the function compiling a matcher for a settings object
+         */
+        public Cache(Function<K, MaterialMatcher> compiler) {
+            this.matchers = Collections.synchronizedMap(new IdentityHashMap<>());
+            this.compiler = compiler;
+            synchronized (CACHES) {
+                CACHES.add(this);
+            }
+        }
+
+        /**
+         * Gets the matcher of a settings object, compiling it on first access.
+         *
+         * @param owner the settings object
+         * @return the matcher
+         */
+        public MaterialMatcher get(K owner) {
+            return matchers.computeIfAbsent(owner, compiler);
+        }
+
+        private void clear() {
+            matchers.clear();
+        }
+    }
+}
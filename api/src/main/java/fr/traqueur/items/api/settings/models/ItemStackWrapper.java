@@ -1,10 +1,10 @@
 package fr.traqueur.items.api.settings.models;
 
-import fr.traqueur.items.api.placeholders.PlaceholderParser;
 import fr.traqueur.items.api.registries.ItemProviderRegistry;
 import fr.traqueur.items.api.registries.Registry;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import fr.traqueur.items.api.utils.ItemUtil;
-import fr.traqueur.items.api.utils.MessageUtil;
+import fr.traqueur.items.api.utils.TextTemplate;
 import fr.traqueur.structura.annotations.Options;
 import fr.traqueur.structura.annotations.defaults.DefaultInt;
 import fr.traqueur.structura.api.Loadable;
@@ -155,29 +155,25 @@ public record ItemStackWrapper(
      * @param player the player for placeholder parsing
      */
     private void applyOverrides(@NotNull ItemStack item, @Nullable Player player) {
-        // Override display name
-        if (displayName != null && !displayName.isEmpty()) {
-            String parsed = PlaceholderParser.parsePlaceholders(player, displayName);
-            Component displayNameComponent = MessageUtil.parseMessage(parsed);
-            ItemUtil.setDisplayName(item, displayNameComponent);
-        }
+        try (ItemMetaTransaction transaction = ItemUtil.openMeta(item)) {
+            // Override display name
+            if (displayName != null && !displayName.isEmpty()) {
+                transaction.displayName(TextTemplate.compile(displayName).render(player));
+            }
 
-        // Override item name
-        if (itemName != null && !itemName.isEmpty()) {
-            String parsed = PlaceholderParser.parsePlaceholders(player, itemName);
-            Component itemNameComponent = MessageUtil.parseMessage(parsed);
-            ItemUtil.setItemName(item, itemNameComponent);
-        }
+            // Override item name
+            if (itemName != null && !itemName.isEmpty()) {
+                transaction.itemName(TextTemplate.compile(itemName).render(player));
+            }
 
-        // Override lore
-        if (lore != null && !lore.isEmpty()) {
-            List<Component> loreComponents = new ArrayList<>();
-            for (String loreLine : lore) {
-                String parsed = PlaceholderParser.parsePlaceholders(player, loreLine);
-                Component loreComponent = MessageUtil.parseMessage(parsed);
-                loreComponents.add(loreComponent);
+            // Override lore
+            if (lore != null && !lore.isEmpty()) {
+                List<Component> loreComponents = new ArrayList<>();
+                for (String loreLine : lore) {
+                    loreComponents.add(TextTemplate.compile(loreLine).render(player));
+                }
+                transaction.lore(loreComponents);
             }
-            ItemUtil.setLore(item, loreComponents);
         }
     }
-}
+}
\ No newline at end of file
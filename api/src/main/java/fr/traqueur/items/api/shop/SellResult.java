@@ -0,0 +1,42 @@
+package fr.traqueur.items.api.shop;
+
+import java.util.BitSet;
+
+/**
+ * Result of {@link ShopProvider#sellAll(fr.traqueur.items.api.ItemsPlugin, org.bukkit.OfflinePlayer, java.util.List, double)}.
+ *
+ * @param sold   the indices of the sold items in the list passed to {@code sellAll}
+ * @param earned the total money deposited, before any economy plugin tax,
+ *               or {@link Double#NaN} if the provider does not know it
+ */
+public record SellResult(BitSet sold, double earned) {
+
+    /**
+     * Checks whether the item at the given index was sold.
+     *
+     * @param index the index of the item in the list passed to {@code sellAll}
+     * @return true if the item was sold
+     */
+    public boolean isSold(int index) {
+        return sold.get(index);
+    }
+
+    /**
+     * Checks whether the total money deposited is known.
+     * The default {@code sellAll} sells items one by one and cannot tell how much they earned.
+     *
+     * @return false if {@link #earned()} is {@link Double#NaN}
+     */
+    public boolean isEarnedKnown() {
+        return !Double.isNaN(earned);
+    }
+
+    /**
+     * Gets the number of sold items.
+     *
+     * @return the number of sold items
+     */
+    public int soldCount() {
+        return sold.cardinality();
+    }
+}
@@ -5,6 +5,9 @@ import org.bukkit.OfflinePlayer;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.*;
+import java.util.function.DoubleConsumer;
+
 /**
  * Abstract class representing a Shop Provider.
  * <p>
@@ -56,4 +59,156 @@ public abstract class ShopProvider {
      */
     public abstract boolean sell(ItemsPlugin plugin, ItemStack item, int amount, double multiplier, OfflinePlayer player);
 
+    /**
+     * Sells several items at once for a player with a given multiplier.
+     * <p>
+     * Null and air entries are ignored. Implementations price similar items once and deposit
+     * the money earned in a single transaction per economy. This default implementation sells
+     * items one by one with {@link #sell(ItemsPlugin, ItemStack, int, double, OfflinePlayer)}.
+     *
+     * @param plugin     The ItemsPlugin instance
+     * @param player     The OfflinePlayer who is selling the items
+     * @param items      The items to sell, each sold with its own amount
+     * @param multiplier The price multiplier
+     * @return the result, telling which items were sold
+     */
+    public SellResult sellAll(ItemsPlugin plugin, OfflinePlayer player, List<ItemStack> items, double multiplier) {
+        BitSet sold = new BitSet(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ItemStack item = items.get(i);
+            if (item != null && !item.getType().isAir() && sell(plugin, item, item.getAmount(), multiplier, player)) {
+                sold.set(i);
+            }
+        }
+        return new SellResult(sold, Double.NaN);
+    }
+
+    /**
+     * Discards any cached price data. Called when zItems is reloaded.
+     * Providers keeping an index of the shop items must override it.
+     */
+    public void invalidateCache() {
+    }
+
+    /**
+     * Batch selling skeleton for implementations of {@link #sellAll(ItemsPlugin, OfflinePlayer, List, double)}.
+     * <p>
+     * Similar items are grouped, each group is priced once through the seller with its
+     * total amount, and the proceeds are deposited once per economy at the end.
+     *
+     * @param items  the items to sell
+     * @param seller the seller pricing a group and adding its proceeds
+     * @return the result, telling which items were sold
+     */
+    protected static SellResult sellGrouped(List<ItemStack> items, GroupSeller seller) {
+        int[] groups = groupSimilar(items);
+        int[] amounts = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            if (groups[i] >= 0) {
+                amounts[groups[i]] += items.get(i).getAmount();
+            }
+        }
+
+        Deposits deposits = new Deposits();
+        BitSet soldGroups = new BitSet(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (groups[i] == i && seller.sell(items.get(i), amounts[i], deposits)) {
+                soldGroups.set(i);
+            }
+        }
+
+        BitSet sold = new BitSet(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (groups[i] >= 0 && soldGroups.get(groups[i])) {
+                sold.set(i);
+            }
+        }
+        return new SellResult(sold, deposits.flush());
+    }
+
+    /**
+     * Groups similar items, so each distinct item is priced once.
+     *
+     * @param items the items
+     * @return for each index, the index of the first similar item (itself for the first one),
+     *         or -1 for null and air entries
+     */
+    private static int[] groupSimilar(List<ItemStack> items) {
+        int[] groups = new int[items.size()];
+        int[] representatives = new int[items.size()];
+        int representativeCount = 0;
+        for (int i = 0; i < items.size(); i++) {
+            ItemStack item = items.get(i);
+            if (item == null || item.getType().isAir()) {
+                groups[i] = -1;
+                continue;
+            }
+            groups[i] = i;
+            for (int r = 0; r < representativeCount; r++) {
+                if (items.get(representatives[r]).isSimilar(item)) {
+                    groups[i] = representatives[r];
+                    break;
+                }
+            }
+            if (groups[i] == i) {
+                representatives[representativeCount++] = i;
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Prices a group of similar items for {@link #sellGrouped(List, GroupSeller)}.
+     */
+    @FunctionalInterface
+    protected interface GroupSeller {
+
+        /**
+         * Prices a group of similar items and adds the proceeds.
+         *
+         * @param item     the first item of the group
+         * @param amount   the total amount of the group
+         * @param deposits the deposits to add the proceeds to
+         * @return true if the group was sold
+         */
+        boolean sell(ItemStack item, int amount, Deposits deposits);
+    }
+
+    /**
+     * Accumulates sale proceeds per economy, to deposit them in one transaction each.
+     */
+    protected static final class Deposits {
+
+        private final Map<Object, Double> totals = new LinkedHashMap<>();
+        private final Map<Object, DoubleConsumer> depositors = new HashMap<>();
+
+        /**
+         * Adds proceeds to an economy.
+         *
+         * @param economy   the economy, used as grouping key
+         * @param amount    the amount to deposit
+         * @param depositor the action depositing an aggregated amount into this economy
+         */
+        public void add(Object economy, double amount, DoubleConsumer depositor) {
+            totals.merge(economy, amount, Double::sum);
+            depositors.putIfAbsent(economy, depositor);
+        }
+
+        /**
+         * Deposits the aggregated amounts.
+         *
+         * @return the total amount deposited
+         */
+        public double flush() {
+            double earned = 0;
+            for (Map.Entry<Object, Double> entry : totals.entrySet()) {
+                depositors.get(entry.getKey()).accept(entry.getValue());
+                earned += entry.getValue();
+            }
+            totals.clear();
+            depositors.clear();
+            return earned;
+        }
+    }
+
 }
@@ -0,0 +1,194 @@
+package fr.traqueur.items.api.utils;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Batches several edits of an item's meta into a single read and a single write.
+ * <p>
+ * Every {@link ItemStack#getItemMeta()} call clones the whole meta and every
+ * {@link ItemStack#setItemMeta(ItemMeta)} re-serializes it, so a build made of many small
+ * stages pays that cost once per stage. A transaction opens the meta on first access, lets
+ * every stage mutate the same instance, and writes it back once on {@link #commit()}.
+ * <p>
+ * Stages that edit the stack itself (data components, amount, or code that still uses
+ * {@code getItemMeta()}/{@code setItemMeta()}) must go through {@link #itemStack()}: it writes
+ * pending meta changes first, and the meta is re-read on next access, so no edit is lost.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * try (ItemMetaTransaction transaction = ItemUtil.openMeta(item)) {
+ *     transaction.lore(lore);
+ *     transaction.meta().setUnbreakable(true);
+ *     Keys.ITEM_ID.set(transaction.container(), id);
+ * }
+ * }</pre>
+ */
+public final class ItemMetaTransaction implements AutoCloseable {
+
+    private final ItemStack itemStack;
+    private ItemMeta meta;
+    private boolean dirty;
+
+    ItemMetaTransaction(ItemStack itemStack) {
+        this.itemStack = itemStack;
+    }
+
+    /**
+     * Gets the meta for modification. Changes are written back on {@link #commit()}.
+     *
+     * @return the open meta, or null if the item cannot hold meta
+     */
+    public @Nullable ItemMeta meta() {
+        ItemMeta current = read();
+        if (current != null) {
+            dirty = true;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the meta for reading only. Does not mark the transaction as modified.
+     *
+     * @return the open meta, or null if the item cannot hold meta
+     */
+    public @Nullable ItemMeta read() {
+        if (meta == null) {
+            meta = itemStack.getItemMeta();
+        }
+        return meta;
+    }
+
+    /**
+     * Edits the meta if it is of the given type.
+     *
+     * @param metaClass the expected meta type
+     * @param consumer  the edit to apply
+     * @param <T>       the meta type
+     * @return true if the meta was of the given type and the edit was applied
+     */
+    public <T extends ItemMeta> boolean edit(Class<T> metaClass, Consumer<T> consumer) {
+        ItemMeta current = read();
+        if (!metaClass.isInstance(current)) {
+            return false;
+        }
+        consumer.accept(metaClass.cast(current));
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * Gets the persistent data container of the meta for modification.
+     *
+     * @return the container, or null if the item cannot hold meta
+     */
+    public @Nullable PersistentDataContainer container() {
+        ItemMeta current = meta();
+        return current == null ? null : current.getPersistentDataContainer();
+    }
+
+    /**
+     * Sets the lore, see {@link ItemUtil#setLore(ItemStack, List)}.
+     *
+     * @param lore the lore lines
+     * @return this transaction
+     */
+    public ItemMetaTransaction lore(@Nullable List<Component> lore) {
+        ItemMeta current = read();
+        if (current != null && lore != null) {
+            ItemUtil.applyLore(current, lore);
+            dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Gets the lore, see {@link ItemUtil#getLore(ItemStack)}.
+     *
+     * @return the lore lines, or null if none
+     */
+    public @Nullable List<Component> lore() {
+        ItemMeta current = read();
+        return current == null ? null : ItemUtil.getLore(current);
+    }
+
+    /**
+     * Sets the display name, see {@link ItemUtil#setDisplayName(ItemStack, Component)}.
+     *
+     * @param displayName the display name
+     * @return this transaction
+     */
+    public ItemMetaTransaction displayName(@Nullable Component displayName) {
+        ItemMeta current = read();
+        if (current != null && displayName != null) {
+            ItemUtil.applyDisplayName(current, displayName);
+            dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Sets the item name, see {@link ItemUtil#setItemName(ItemStack, Component)}.
+     *
+     * @param itemName the item name
+     * @return this transaction
+     */
+    public ItemMetaTransaction itemName(@Nullable Component itemName) {
+        ItemMeta current = read();
+        if (current != null && itemName != null) {
+            ItemUtil.applyItemName(current, itemName);
+            dirty = true;
+        }
+        return this;
+    }
+
+    /**
+     * Gets the material of the item, without committing pending changes.
+     *
+     * @return the item material
+     */
+    public @NotNull Material type() {
+        return itemStack.getType();
+    }
+
+    /**
+     * Gets the item stack for direct modification.
+     * <p>
+     * Pending meta changes are written first and the meta is re-read on next access,
+     * so edits made on the stack are kept.
+     *
+     * @return the item stack
+     */
+    public @NotNull ItemStack itemStack() {
+        commit();
+        meta = null;
+        return itemStack;
+    }
+
+    /**
+     * Writes the meta back to the item if it was modified.
+     * The transaction stays usable afterwards.
+     */
+    public void commit() {
+        if (dirty) {
+            itemStack.setItemMeta(meta);
+            dirty = false;
+        }
+    }
+
+    /**
+     * Commits the transaction.
+     */
+    @Override
+    public void close() {
+        commit();
+    }
+}
@@ -70,11 +70,22 @@ public class ItemUtil {
             return;
         }
 
-        ItemMeta meta = itemStack.getItemMeta();
-        if (meta == null) {
-            return;
+        try (ItemMetaTransaction transaction = openMeta(itemStack)) {
+            transaction.displayName(displayName);
         }
+    }
+
+    /**
+     * Opens a meta transaction on an ItemStack, batching several meta edits into one meta read and one write.
+     *
+     * @param itemStack The ItemStack to modify
+     * @return The transaction, to close once every edit is applied
+     */
+    public static ItemMetaTransaction openMeta(ItemStack itemStack) {
+        return new ItemMetaTransaction(itemStack);
+    }
 
+    static void applyDisplayName(ItemMeta meta, Component displayName) {
         Component processedDisplayName = displayName.decorationIfAbsent(TextDecoration.ITALIC, TextDecoration.State.FALSE);
 
 
@@ -86,8 +97,6 @@ public class ItemUtil {
             String legacy = LEGACY_SERIALIZER.serialize(processedDisplayName);
             meta.setDisplayName(legacy);
         }
-
-        itemStack.setItemMeta(meta);
     }
 
     /**
@@ -103,11 +112,12 @@ public class ItemUtil {
             return;
         }
 
-        ItemMeta meta = itemStack.getItemMeta();
-        if (meta == null) {
-            return;
+        try (ItemMetaTransaction transaction = openMeta(itemStack)) {
+            transaction.lore(lore);
         }
+    }
 
+    static void applyLore(ItemMeta meta, List<Component> lore) {
         // Disable italic decoration for all lore lines
         List<Component> processedLore = new ArrayList<>();
         for (Component line : lore) {
@@ -126,8 +136,6 @@ public class ItemUtil {
             }
             meta.setLore(legacyLore);
         }
-
-        itemStack.setItemMeta(meta);
     }
 
     /**
@@ -146,7 +154,17 @@ public class ItemUtil {
         if (meta == null) {
             return null;
         }
+        return getLore(meta);
+    }
 
+    /**
+     * Gets the lore of an ItemMeta as a List of Components.
+     * Works on both Paper and Spigot.
+     *
+     * @param meta The ItemMeta to get the lore from
+     * @return The lore as a list of Components, or null if none
+     */
+    public static List<Component> getLore(ItemMeta meta) {
         if (PlatformType.isPaper()) {
             // Use Paper's native Adventure API
             return meta.lore();
@@ -177,16 +195,12 @@ public class ItemUtil {
     public static ItemStack createItem(Material material, int amount, Component displayName, List<Component> lore, Component itemName) {
         ItemStack itemStack = new ItemStack(material, amount);
 
-        if (displayName != null) {
-            setDisplayName(itemStack, displayName);
-        }
-
-        if (lore != null && !lore.isEmpty()) {
-            setLore(itemStack, lore);
-        }
-
-        if (itemName != null) {
-            setItemName(itemStack, itemName);
+        try (ItemMetaTransaction transaction = openMeta(itemStack)) {
+            transaction.displayName(displayName);
+            if (lore != null && !lore.isEmpty()) {
+                transaction.lore(lore);
+            }
+            transaction.itemName(itemName);
         }
 
         return itemStack;
@@ -204,11 +218,12 @@ public class ItemUtil {
             return;
         }
 
-        ItemMeta meta = itemStack.getItemMeta();
-        if (meta == null) {
-            return;
+        try (ItemMetaTransaction transaction = openMeta(itemStack)) {
+            transaction.itemName(itemName);
         }
+    }
 
+    static void applyItemName(ItemMeta meta, Component itemName) {
         Component processedItemName = itemName.decorationIfAbsent(TextDecoration.ITALIC, TextDecoration.State.FALSE);
 
 
@@ -220,8 +235,6 @@ public class ItemUtil {
             String legacy = LEGACY_SERIALIZER.serialize(processedItemName);
             meta.setItemName(legacy);
         }
-
-        itemStack.setItemMeta(meta);
     }
 
     /**
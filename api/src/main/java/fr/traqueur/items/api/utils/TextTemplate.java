@@ -0,0 +1,240 @@
+package fr.traqueur.items.api.utils;
+
+import fr.traqueur.items.api.placeholders.PlaceholderParser;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Configured text compiled once for repeated rendering.
+ * <p>
+ * Rendering a configured string through {@link PlaceholderParser} and {@link MessageUtil#parseMessage(String, TagResolver...)}
+ * costs a placeholder pass and a full MiniMessage parse every time. Templates classify their text once:
+ * <ul>
+ *   <li><b>STATIC:</b> plain text, rendered as a text component built once</li>
+ *   <li><b>MINI_MESSAGE:</b> tags or legacy codes but no placeholder, parsed once</li>
+ *   <li><b>PLACEHOLDER:</b> contains placeholders, rendered per player and kept in a bounded
+ *   cache for a short time (see {@link #configure(long, int)})</li>
+ * </ul>
+ * Placeholder templates behave like MiniMessage templates while no placeholder parser is installed.
+ * Rendering with tag resolvers always parses, since the result depends on the resolvers.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * Component title = TextTemplate.compile(Messages.EFFECTS_LORE_TITLE.get()).render(player);
+ * }</pre>
+ */
+public final class TextTemplate {
+
+    private static final int MAX_TEMPLATES = 4096;
+    private static final Component EMPTY_COMPONENT = Component.empty();
+
+    private static final Map<String, TextTemplate> TEMPLATES = new LruMap<>(MAX_TEMPLATES);
+    private static Map<RenderKey, Rendered> RENDERED = new LruMap<>(2048);
+    private static long ttlMillis = 1000;
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private final String raw;
+    private final Kind kind;
+    private volatile Component compiled;
+
+    private TextTemplate(String raw, Kind kind) {
+        this.raw = raw;
+        this.kind = kind;
+    }
+
+    /**
+     * Gets the compiled template of a text, compiling it on first use.
+     *
+     * @param raw the configured text
+     * @return the template
+     */
+    public static @NotNull TextTemplate compile(@Nullable String raw) {
+        String text = raw == null ? "" : raw;
+        synchronized (TEMPLATES) {
+            return TEMPLATES.computeIfAbsent(text, key -> new TextTemplate(key, classify(key)));
+        }
+    }
+
+    /**
+     * Configures the cache of rendered placeholder templates. Clears the cache.
+     *
+     * @param ttlMillis  how long a rendered text is reused for the same player, 0 to disable the cache
+     * @param maxEntries the maximum number of rendered texts kept
+     */
+    public static void configure(long ttlMillis, int maxEntries) {
+        synchronized (TEMPLATES) {
+            TextTemplate.ttlMillis = Math.max(0, ttlMillis);
+            RENDERED = new LruMap<>(Math.max(1, maxEntries));
+        }
+    }
+
+    /**
+     * Discards every compiled template and rendered text. Must be called when texts are reloaded.
+     */
+    public static void invalidateCaches() {
+        synchronized (TEMPLATES) {
+            TEMPLATES.clear();
+            RENDERED.clear();
+        }
+    }
+
+    /**
+     * Gets the statistics of the rendered text cache since startup.
+     *
+     * @return the statistics
+     */
+    public static Stats stats() {
+        int size;
+        synchronized (TEMPLATES) {
+            size = RENDERED.size();
+        }
+        return new Stats(HITS.get(), MISSES.get(), size);
+    }
+
+    private static Kind classify(String text) {
+        if (text.indexOf('%') >= 0) {
+            return Kind.PLACEHOLDER;
+        }
+        if (text.indexOf('<') >= 0 || text.indexOf('&') >= 0 || text.indexOf('\\') >= 0) {
+            return Kind.MINI_MESSAGE;
+        }
+        return Kind.STATIC;
+    }
+
+    /**
+     * Gets the kind of this template.
+     *
+     * @return the kind
+     */
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * Renders the template for a player.
+     *
+     * @param player the player for placeholders, or null
+     * @return the rendered component
+     */
+    public @NotNull Component render(@Nullable Player player) {
+        if (kind != Kind.PLACEHOLDER || !hasPlaceholderParser()) {
+            return compiled();
+        }
+        if (ttlMillis == 0) {
+            return MessageUtil.parseMessage(PlaceholderParser.parsePlaceholders(player, raw));
+        }
+
+        RenderKey key = new RenderKey(player == null ? null : player.getUniqueId(), this);
+        long now = System.currentTimeMillis();
+        synchronized (TEMPLATES) {
+            Rendered rendered = RENDERED.get(key);
+            if (rendered != null && rendered.expiresAt() > now) {
+                HITS.incrementAndGet();
+                return rendered.component();
+            }
+        }
+
+        MISSES.incrementAndGet();
+        Component component = MessageUtil.parseMessage(PlaceholderParser.parsePlaceholders(player, raw));
+        synchronized (TEMPLATES) {
+            RENDERED.put(key, new Rendered(component, now + ttlMillis));
+        }
+        return component;
+    }
+
+    /**
+     * Renders the template for a player with tag resolvers.
+     *
+     * @param player    the player for placeholders, or null
+     * @param resolvers the tag resolvers
+     * @return the rendered component
+     */
+    public @NotNull Component render(@Nullable Player player, TagResolver... resolvers) {
+        if (resolvers.length == 0) {
+            return render(player);
+        }
+        String text = kind == Kind.PLACEHOLDER ? PlaceholderParser.parsePlaceholders(player, raw) : raw;
+        return MessageUtil.parseMessage(text, resolvers);
+    }
+
+    private Component compiled() {
+        Component component = compiled;
+        if (component == null) {
+            component = raw.isEmpty() ? EMPTY_COMPONENT
+                    : kind == Kind.STATIC ? Component.text(raw)
+                    : MessageUtil.parseMessage(raw);
+            compiled = component;
+        }
+        return component;
+    }
+
+    private static boolean hasPlaceholderParser() {
+        return !(PlaceholderParser.Holder.getInstance() instanceof PlaceholderParser.EmptyParser);
+    }
+
+    /**
+     * Classification of a template.
+     */
+    public enum Kind {
+        /** Plain text */
+        STATIC,
+        /** MiniMessage tags or legacy codes, without placeholders */
+        MINI_MESSAGE,
+        /** Player-dependent placeholders */
+        PLACEHOLDER
+    }
+
+    /**
+     * Statistics of the rendered text cache.
+     *
+     * @param hits   renders served from the cache
+     * @param misses renders that had to parse the text
+     * @param size   rendered texts currently cached
+     */
+    public record Stats(long hits, long misses, int size) {
+
+        /**
+         * Gets the ratio of renders served from the cache.
+         *
+         * @return the hit ratio, between 0 and 1
+         */
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record RenderKey(UUID player, TextTemplate template) {
+    }
+
+    private record Rendered(Component component, long expiresAt) {
+    }
+
+    /**
+     * Access-ordered map evicting its least recently used entry above a fixed size.
+     */
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+        private final int maxEntries;
+
+        private LruMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -11,6 +11,12 @@ import java.util.concurrent.ThreadLocalRandom;
 
 public abstract class JobsHandler<E extends Event> implements EffectHandler.SingleEventEffectHandler<BoostSettings, E> {
 
+    /** Event type resolved once from the subclass type argument */
+    private final Class<E> eventType;
+
+    protected JobsHandler() {
+        this.eventType = resolveEventType();
+    }
 
     @Override
     public Class<BoostSettings> settingsType() {
@@ -18,8 +24,12 @@ public abstract class JobsHandler<E extends Event> implements EffectHandler.Sing
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Class<E> eventType() {
+        return this.eventType;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<E> resolveEventType() {
         Type superclass = getClass().getGenericSuperclass();
         if (superclass instanceof ParameterizedType parameterizedType) {
             Type actualType = parameterizedType.getActualTypeArguments()[0];
@@ -35,7 +45,7 @@ public abstract class JobsHandler<E extends Event> implements EffectHandler.Sing
         if (settings.chanceToBoost() != -1 && ThreadLocalRandom.current().nextDouble(0, 100) > settings.chanceToBoost()) {
             return;
         }
-        this.setNewValue(context.getEventAs(eventType()), settings.boost());
+        this.setNewValue(context.getEventAs(this.eventType), settings.boost());
     }
 
     protected abstract void setNewValue(E event, double boost);
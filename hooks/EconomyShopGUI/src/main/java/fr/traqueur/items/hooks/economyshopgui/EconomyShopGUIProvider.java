@@ -1,12 +1,14 @@
 package fr.traqueur.items.hooks.economyshopgui;
 
 import fr.traqueur.items.api.ItemsPlugin;
+import fr.traqueur.items.api.shop.SellResult;
 import fr.traqueur.items.api.shop.ShopProvider;
 import me.gypopo.economyshopgui.api.EconomyShopGUIHook;
 import me.gypopo.economyshopgui.api.objects.SellPrice;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.List;
 import java.util.Optional;
 
 public class EconomyShopGUIProvider extends ShopProvider {
@@ -20,4 +22,19 @@ public class EconomyShopGUIProvider extends ShopProvider {
         EconomyShopGUIHook.getEcon(price.getShopItem().getEcoType()).depositBalance(player, price.getPrice(price.getShopItem().getEcoType()) * amount * multiplier);
         return true;
     }
+
+    @Override
+    public SellResult sellAll(ItemsPlugin plugin, OfflinePlayer player, List<ItemStack> items, double multiplier) {
+        // Prices may be dynamic, so they are only shared within one sale
+        return sellGrouped(items, (item, amount, deposits) -> {
+            Optional<SellPrice> optional = EconomyShopGUIHook.getSellPrice(player, item);
+            if (optional.isEmpty())
+                return false;
+            SellPrice price = optional.get();
+            var ecoType = price.getShopItem().getEcoType();
+            deposits.add(ecoType, price.getPrice(ecoType) * amount * multiplier,
+                    total -> EconomyShopGUIHook.getEcon(ecoType).depositBalance(player, total));
+            return true;
+        });
+    }
 }
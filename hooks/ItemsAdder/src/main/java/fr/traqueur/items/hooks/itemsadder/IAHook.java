@@ -10,6 +10,7 @@ import fr.traqueur.items.api.items.ItemProvider;
 import fr.traqueur.items.api.registries.CustomBlockProviderRegistry;
 import fr.traqueur.items.api.registries.ItemProviderRegistry;
 import fr.traqueur.items.api.registries.Registry;
+import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -18,6 +19,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @AutoHook("ItemsAdder")
 public class IAHook implements Hook {
@@ -29,6 +31,24 @@ public class IAHook implements Hook {
 
     private record IABlockProvider() implements CustomBlockProvider {
 
+        /** REAL_NOTE, REAL, REAL_TRANSPARENT, REAL_WIRE, FIRE and TILE blocks, and furniture barrier hitboxes */
+        private static final Set<Material> BASE_MATERIALS = Set.of(
+                Material.NOTE_BLOCK,
+                Material.MUSHROOM_STEM,
+                Material.BROWN_MUSHROOM_BLOCK,
+                Material.RED_MUSHROOM_BLOCK,
+                Material.CHORUS_PLANT,
+                Material.TRIPWIRE,
+                Material.FIRE,
+                Material.SPAWNER,
+                Material.BARRIER);
+
+        @Override
+        public Set<Material> baseMaterials() {
+            return BASE_MATERIALS;
+        }
+
+
         @Override
         public Optional<List<ItemStack>> getCustomBlockDrop(Block block, Player player) {
             CustomBlock customBlock = CustomBlock.byAlreadyPlaced(block);
@@ -7,6 +7,6 @@ import org.jetbrains.annotations.Nullable;
 public class JobExpGainEventExtractor implements ItemSourceExtractor<JobsExpGainEvent> {
     @Override
     public @Nullable ExtractionResult extract(JobsExpGainEvent event) {
-        return new ExtractionResult(event.getPlayer().getPlayer(), event.getPlayer().getPlayer().getInventory().getItemInMainHand());
+        return ExtractionResult.mainHand(event.getPlayer().getPlayer());
     }
 }
@@ -7,6 +7,6 @@ import org.jetbrains.annotations.Nullable;
 public class JobMoneyGainEventExtractor implements ItemSourceExtractor<JobsPrePaymentEvent> {
     @Override
     public @Nullable ExtractionResult extract(JobsPrePaymentEvent event) {
-        return new ExtractionResult(event.getPlayer().getPlayer(), event.getPlayer().getPlayer().getInventory().getItemInMainHand());
+        return ExtractionResult.mainHand(event.getPlayer().getPlayer());
     }
 }
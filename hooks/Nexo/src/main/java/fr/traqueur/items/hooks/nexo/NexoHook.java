@@ -13,6 +13,7 @@ import fr.traqueur.items.api.items.ItemProvider;
 import fr.traqueur.items.api.registries.CustomBlockProviderRegistry;
 import fr.traqueur.items.api.registries.ItemProviderRegistry;
 import fr.traqueur.items.api.registries.Registry;
+import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
@@ -22,6 +23,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @AutoHook("Nexo")
 public class NexoHook implements Hook {
@@ -33,6 +35,19 @@ public class NexoHook implements Hook {
 
     private record NexoBlockProvider() implements CustomBlockProvider {
 
+        /** Note block, string block and chorus block mechanics, and furniture barrier hitboxes */
+        private static final Set<Material> BASE_MATERIALS = Set.of(
+                Material.NOTE_BLOCK,
+                Material.TRIPWIRE,
+                Material.CHORUS_PLANT,
+                Material.BARRIER);
+
+        @Override
+        public Set<Material> baseMaterials() {
+            return BASE_MATERIALS;
+        }
+
+
         @Override
         public Optional<List<ItemStack>> getCustomBlockDrop(Block block, Player player) {
             boolean mechanic = NexoFurniture.isFurniture(block.getLocation());
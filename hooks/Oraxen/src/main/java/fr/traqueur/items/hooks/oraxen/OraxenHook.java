@@ -14,6 +14,7 @@ import io.th0rgal.oraxen.items.ItemBuilder;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.block.BlockMechanic;
 import io.th0rgal.oraxen.mechanics.provided.gameplay.furniture.FurnitureMechanic;
 import io.th0rgal.oraxen.utils.drops.Loot;
+import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
@@ -23,6 +24,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @AutoHook("Oraxen")
 public class OraxenHook implements Hook {
@@ -35,6 +37,19 @@ public class OraxenHook implements Hook {
 
     private record OraxenBlockProvider() implements CustomBlockProvider {
 
+        /** Note block, string block and chorus block mechanics, and furniture barrier hitboxes */
+        private static final Set<Material> BASE_MATERIALS = Set.of(
+                Material.NOTE_BLOCK,
+                Material.TRIPWIRE,
+                Material.CHORUS_PLANT,
+                Material.BARRIER);
+
+        @Override
+        public Set<Material> baseMaterials() {
+            return BASE_MATERIALS;
+        }
+
+
         @Override
         public Optional<List<ItemStack>> getCustomBlockDrop(Block block, Player player) {
             FurnitureMechanic mechanic = OraxenFurniture.getFurnitureMechanic(block);
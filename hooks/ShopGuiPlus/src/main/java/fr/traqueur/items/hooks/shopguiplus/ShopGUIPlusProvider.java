@@ -2,11 +2,16 @@ package fr.traqueur.items.hooks.shopguiplus;
 
 
 import fr.traqueur.items.api.ItemsPlugin;
+import fr.traqueur.items.api.shop.SellResult;
 import fr.traqueur.items.api.shop.ShopProvider;
 import net.brcdev.shopgui.ShopGuiPlusApi;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.BitSet;
+import java.util.List;
+
 public class ShopGUIPlusProvider extends ShopProvider {
     @Override
     public boolean sell(ItemsPlugin plugin, ItemStack item, int amount, double multiplier, OfflinePlayer player) {
@@ -22,4 +27,22 @@ public class ShopGUIPlusProvider extends ShopProvider {
         ShopGuiPlusApi.getItemStackShop(item).getEconomyProvider().deposit(player.getPlayer(), total);
         return true;
     }
+
+    @Override
+    public SellResult sellAll(ItemsPlugin plugin, OfflinePlayer player, List<ItemStack> items, double multiplier) {
+        Player onlinePlayer = player.getPlayer();
+        if (onlinePlayer == null) {
+            return new SellResult(new BitSet(), 0);
+        }
+        // Prices may depend on the player, so they are only shared within one sale
+        return sellGrouped(items, (item, amount, deposits) -> {
+            double price = ShopGuiPlusApi.getItemStackPriceSell(onlinePlayer, item);
+            if (price == -1) {
+                return false;
+            }
+            var economy = ShopGuiPlusApi.getItemStackShop(item).getEconomyProvider();
+            deposits.add(economy, price * amount * multiplier, total -> economy.deposit(onlinePlayer, total));
+            return true;
+        });
+    }
 }
@@ -1,11 +1,18 @@
 package fr.traqueur.items.hooks.superiorskyblock2;
 
 import com.bgsoftware.superiorskyblock.api.SuperiorSkyblockAPI;
+import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.IslandPrivilege;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
+import fr.traqueur.items.api.blocks.AreaAccess;
 import fr.traqueur.items.api.blocks.LocationAccess;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 public class SuperiorSkyBlockLocationAccess implements LocationAccess {
 
@@ -18,4 +25,59 @@ public class SuperiorSkyBlockLocationAccess implements LocationAccess {
         var island = SuperiorSkyblockAPI.getIslandAt(location);
         return island == null || island.hasPermission(superiorPlayer, IslandPrivilege.getByName("BREAK"));
     }
+
+    /**
+     * Resolves the island of each chunk column of the area once, instead of once per block.
+     * Islands span the whole height of the world, so a chunk column part whose two opposite corners
+     * are inside the same island is entirely inside it. The permission is checked once per island.
+     */
+    @Override
+    public AreaAccess canBuildArea(Player player, World world, BoundingBox area) {
+        SuperiorPlayer superiorPlayer = SuperiorSkyblockAPI.getPlayer(player);
+        if (superiorPlayer == null) {
+            return AreaAccess.DENIED;
+        }
+
+        int minX = (int) Math.floor(area.getMinX());
+        int minZ = (int) Math.floor(area.getMinZ());
+        int maxX = Math.max(minX, (int) Math.ceil(area.getMaxX()) - 1);
+        int maxZ = Math.max(minZ, (int) Math.ceil(area.getMaxZ()) - 1);
+        double y = Math.floor(area.getMinY());
+
+        IslandPrivilege privilege = IslandPrivilege.getByName("BREAK");
+        Map<Island, Boolean> permissions = new IdentityHashMap<>();
+        Location corner = new Location(world, 0, y, 0);
+        Boolean allowed = null;
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                int fromX = Math.max(minX, chunkX << 4);
+                int fromZ = Math.max(minZ, chunkZ << 4);
+                int toX = Math.min(maxX, (chunkX << 4) + 15);
+                int toZ = Math.min(maxZ, (chunkZ << 4) + 15);
+
+                corner.setX(fromX);
+                corner.setZ(fromZ);
+                Island island = SuperiorSkyblockAPI.getIslandAt(corner);
+                if (island == null) {
+                    // Blocks outside islands are allowed, but an island may still start inside this part
+                    return AreaAccess.MIXED;
+                }
+                corner.setX(toX);
+                corner.setZ(toZ);
+                if (!island.isInside(corner)) {
+                    return AreaAccess.MIXED;
+                }
+
+                boolean partAllowed = permissions.computeIfAbsent(island,
+                        key -> key.hasPermission(superiorPlayer, privilege));
+                if (allowed == null) {
+                    allowed = partAllowed;
+                } else if (allowed != partAllowed) {
+                    return AreaAccess.MIXED;
+                }
+            }
+        }
+        return allowed == null || allowed ? AreaAccess.ALLOWED : AreaAccess.DENIED;
+    }
 }
@@ -1,17 +1,28 @@
 package fr.traqueur.items.hooks.worldguard;
 
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.bukkit.WorldGuardPlugin;
 import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.flags.Flags;
 import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.GlobalProtectedRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import com.sk89q.worldguard.protection.regions.RegionContainer;
+import fr.traqueur.items.api.blocks.AreaAccess;
 import fr.traqueur.items.api.blocks.LocationAccess;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
 
 public class WorldGuardLocationAccess implements LocationAccess {
+
+    /** ID of the transient region used to query the regions overlapping an area */
+    private static final String AREA_QUERY_ID = "__zitems_area__";
+
     @Override
     public boolean hasAccess(Player player, Location location) {
         RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
@@ -21,4 +32,43 @@ public class WorldGuardLocationAccess implements LocationAccess {
         ApplicableRegionSet regionSet = regionManager.getApplicableRegions(BukkitAdapter.adapt(location).toVector().toBlockPoint());
         return !regionSet.testState(WorldGuardPlugin.inst().wrapPlayer(player), Flags.BLOCK_BREAK);
     }
+
+    /**
+     * Queries the regions overlapping the area once. When none of them has a border inside the area,
+     * every block of the area has the same applicable regions, so a single flag test answers for all
+     * of them.
+     */
+    @Override
+    public AreaAccess canBuildArea(Player player, World world, BoundingBox area) {
+        RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
+        RegionManager regionManager = container.get(BukkitAdapter.adapt(world));
+        if (regionManager == null) return AreaAccess.ALLOWED;
+
+        int minX = (int) Math.floor(area.getMinX());
+        int minY = (int) Math.floor(area.getMinY());
+        int minZ = (int) Math.floor(area.getMinZ());
+        BlockVector3 min = BlockVector3.at(minX, minY, minZ);
+        BlockVector3 max = BlockVector3.at(
+                Math.max(minX, (int) Math.ceil(area.getMaxX()) - 1),
+                Math.max(minY, (int) Math.ceil(area.getMaxY()) - 1),
+                Math.max(minZ, (int) Math.ceil(area.getMaxZ()) - 1));
+
+        ApplicableRegionSet regionSet = regionManager.getApplicableRegions(new ProtectedCuboidRegion(AREA_QUERY_ID, true, min, max));
+        for (ProtectedRegion region : regionSet) {
+            if (!containsArea(region, min, max)) {
+                return AreaAccess.MIXED;
+            }
+        }
+        return regionSet.testState(WorldGuardPlugin.inst().wrapPlayer(player), Flags.BLOCK_BREAK)
+                ? AreaAccess.DENIED
+                : AreaAccess.ALLOWED;
+    }
+
+    private boolean containsArea(ProtectedRegion region, BlockVector3 min, BlockVector3 max) {
+        if (region instanceof GlobalProtectedRegion) {
+            return true;
+        }
+        // Only cuboids are convex boxes whose corners bound every point in between
+        return region instanceof ProtectedCuboidRegion && region.contains(min) && region.contains(max);
+    }
 }
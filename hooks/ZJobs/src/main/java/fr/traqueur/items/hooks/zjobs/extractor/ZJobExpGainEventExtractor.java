@@ -7,6 +7,6 @@ import org.jetbrains.annotations.Nullable;
 public class ZJobExpGainEventExtractor implements ItemSourceExtractor<JobExpGainEvent> {
     @Override
     public @Nullable ExtractionResult extract(JobExpGainEvent event) {
-        return new ExtractionResult(event.getPlayer(), event.getPlayer().getInventory().getItemInMainHand());
+        return ExtractionResult.mainHand(event.getPlayer());
     }
 }
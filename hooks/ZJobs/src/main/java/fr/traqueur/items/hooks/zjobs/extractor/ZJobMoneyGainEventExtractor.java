@@ -7,6 +7,6 @@ import org.jetbrains.annotations.Nullable;
 public class ZJobMoneyGainEventExtractor implements ItemSourceExtractor<JobMoneyGainEvent> {
     @Override
     public @Nullable ExtractionResult extract(JobMoneyGainEvent event) {
-        return new ExtractionResult(event.getPlayer(), event.getPlayer().getInventory().getItemInMainHand());
+        return ExtractionResult.mainHand(event.getPlayer());
     }
 }
@@ -3,34 +3,180 @@ package fr.traqueur.items.hooks.zshop;
 import fr.maxlego08.shop.api.ShopManager;
 import fr.maxlego08.shop.api.buttons.ItemButton;
 import fr.traqueur.items.api.ItemsPlugin;
+import fr.traqueur.items.api.shop.SellResult;
 import fr.traqueur.items.api.shop.ShopProvider;
+import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.*;
+
 public class ZShopProvider extends ShopProvider {
 
+    /**
+     * Sellable buttons keyed by the material of their built item, so a sale only compares
+     * the item against buttons of the same material instead of building every button.
+     */
+    private PriceIndex priceIndex;
+    /** Buttons the index was built from, compared by identity to detect zShop reloads */
+    private ItemButton[] indexedButtons;
+
     @Override
     public boolean sell(ItemsPlugin plugin, ItemStack item, int amount, double multiplier, OfflinePlayer player) {
         if (!player.isOnline()) {
             return false;
         }
 
-        var register = plugin.getServer().getServicesManager().getRegistration(ShopManager.class);
-        if (register == null) {
+        ShopManager shopManager = getShopManager(plugin);
+        if (shopManager == null) {
+            return false;
+        }
+
+        ItemButton itemButton = findButton(getPriceIndex(shopManager, player.getPlayer()), player.getPlayer(), item);
+        if (itemButton == null) {
             return false;
         }
-        var shopManager = register.getProvider();
-        for (ItemButton itemButton : shopManager.getItemButtons()) {
-            if (!itemButton.canSell()) {
+        double price = itemButton.getSellPrice(player.getPlayer(), amount);
+        itemButton.getEconomy().depositMoney(player, price * multiplier, "Automatic sell");
+        return true;
+    }
+
+    @Override
+    public SellResult sellAll(ItemsPlugin plugin, OfflinePlayer player, List<ItemStack> items, double multiplier) {
+        Player onlinePlayer = player.getPlayer();
+        ShopManager shopManager = getShopManager(plugin);
+        if (onlinePlayer == null || shopManager == null) {
+            return new SellResult(new BitSet(), 0);
+        }
+
+        // Resolved once per sale, checking it walks every zShop button
+        PriceIndex index = getPriceIndex(shopManager, onlinePlayer);
+        return sellGrouped(items, (item, amount, deposits) -> {
+            ItemButton itemButton = findButton(index, onlinePlayer, item);
+            if (itemButton == null) {
+                return false;
+            }
+            var economy = itemButton.getEconomy();
+            deposits.add(economy, itemButton.getSellPrice(onlinePlayer, amount) * multiplier,
+                    total -> economy.depositMoney(player, total, "Automatic sell"));
+            return true;
+        });
+    }
+
+    @Override
+    public void invalidateCache() {
+        this.priceIndex = null;
+    }
+
+    private ShopManager getShopManager(ItemsPlugin plugin) {
+        var register = plugin.getServer().getServicesManager().getRegistration(ShopManager.class);
+        return register == null ? null : register.getProvider();
+    }
+
+    private ItemButton findButton(PriceIndex index, Player player, ItemStack item) {
+        List<PricedButton> candidates = index.byMaterial().get(item.getType());
+        if (candidates != null) {
+            for (PricedButton candidate : candidates) {
+                if (candidate.item().isSimilar(item)) {
+                    return candidate.button();
+                }
+            }
+        }
+        // Items depending on the player are built for the seller, as zShop does
+        for (ItemButton button : index.playerDependent()) {
+            if (button.getItemStack().build(player, false).isSimilar(item)) {
+                return button;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the price index, rebuilding it when zShop reloaded its buttons.
+     * <p>
+     * zShop recreates its buttons on reload, so the index is kept as long as the buttons are the
+     * same instances: checking it only costs a pass over the collection, no item build.
+     * The indexed items are built without player, so they are the same for every seller.
+     */
+    private PriceIndex getPriceIndex(ShopManager shopManager, Player player) {
+        Collection<ItemButton> buttons = shopManager.getItemButtons();
+        PriceIndex index = this.priceIndex;
+        if (index != null && sameButtons(buttons)) {
+            return index;
+        }
+
+        Map<Material, List<PricedButton>> byMaterial = new EnumMap<>(Material.class);
+        List<ItemButton> playerDependent = new ArrayList<>();
+        for (ItemButton button : buttons) {
+            if (!button.canSell()) {
+                continue;
+            }
+            ItemStack built = buildShared(button, player);
+            if (built == null) {
+                playerDependent.add(button);
                 continue;
             }
+            byMaterial.computeIfAbsent(built.getType(), material -> new ArrayList<>(1)).add(new PricedButton(button, built));
+        }
+        index = new PriceIndex(byMaterial, playerDependent);
+        this.priceIndex = index;
+        this.indexedButtons = buttons.toArray(new ItemButton[0]);
+        return index;
+    }
 
-            if (itemButton.getItemStack().build(player.getPlayer(), false).isSimilar(item)) {
-                double price = itemButton.getSellPrice(player.getPlayer(), amount);
-                itemButton.getEconomy().depositMoney(player, price * multiplier, "Automatic sell");
-                return true;
+    private boolean sameButtons(Collection<ItemButton> buttons) {
+        ItemButton[] indexed = this.indexedButtons;
+        if (indexed == null || indexed.length != buttons.size()) {
+            return false;
+        }
+        int i = 0;
+        for (ItemButton button : buttons) {
+            if (indexed[i++] != button) {
+                return false;
             }
         }
-        return false;
+        return true;
+    }
+
+    /**
+     * Builds the item of a button without player.
+     * <p>
+     * The item depends on the player when it cannot be built without one, or when it differs from
+     * the item built for the given player (placeholders in its name or lore, player heads...).
+     *
+     * @param button the button
+     * @param player a player to compare the item with
+     * @return the item, or null if it depends on the player
+     */
+    private ItemStack buildShared(ItemButton button, Player player) {
+        ItemStack shared;
+        try {
+            shared = button.getItemStack().build(null, false);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        if (shared == null || !shared.isSimilar(button.getItemStack().build(player, false))) {
+            return null;
+        }
+        return shared;
+    }
+
+    /**
+     * Sellable buttons of the shop.
+     *
+     * @param byMaterial      the buttons whose item is the same for every player, by material
+     * @param playerDependent the buttons whose item depends on the player, built on each sale
+     */
+    private record PriceIndex(Map<Material, List<PricedButton>> byMaterial, List<ItemButton> playerDependent) {
+    }
+
+    /**
+     * A sellable button with its built item.
+     *
+     * @param button the zShop button
+     * @param item   the item the button sells
+     */
+    private record PricedButton(ItemButton button, ItemStack item) {
     }
 }
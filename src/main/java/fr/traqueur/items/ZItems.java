@@ -13,9 +13,12 @@ import fr.traqueur.items.api.items.Item;
 import fr.traqueur.items.api.managers.EffectsManager;
 import fr.traqueur.items.api.managers.ItemsManager;
 import fr.traqueur.items.api.registries.*;
+import fr.traqueur.items.api.settings.MaterialMatcher;
 import fr.traqueur.items.api.settings.Settings;
 import fr.traqueur.items.api.settings.models.AttributeMergeStrategy;
+import fr.traqueur.items.api.shop.ShopProvider;
 import fr.traqueur.items.api.utils.MessageUtil;
+import fr.traqueur.items.api.utils.TextTemplate;
 import fr.traqueur.items.blocks.BlockTracker;
 import fr.traqueur.items.blocks.BlockTrackerListener;
 import fr.traqueur.items.blocks.ZItemsProvider;
@@ -26,6 +29,8 @@ import fr.traqueur.items.commands.CommandsMessageHandler;
 import fr.traqueur.items.commands.ZItemsCommand;
 import fr.traqueur.items.commands.arguments.EffectArgument;
 import fr.traqueur.items.commands.arguments.ItemArgument;
+import fr.traqueur.items.effects.ApplicationResults;
+import fr.traqueur.items.effects.EquipmentSnapshots;
 import fr.traqueur.items.effects.ZEffectsDispatcher;
 import fr.traqueur.items.effects.ZEffectsManager;
 import fr.traqueur.items.effects.ZEventsListener;
@@ -41,6 +46,8 @@ import fr.traqueur.items.serialization.ZTrackedBlockDataType;
 import fr.traqueur.items.settings.PluginSettings;
 import fr.traqueur.items.settings.readers.*;
 import fr.traqueur.items.shop.ShopProviders;
+import fr.traqueur.items.utils.ReflectionsCache;
+import fr.traqueur.items.utils.SmeltingIndex;
 import fr.traqueur.recipes.api.RecipesAPI;
 import fr.traqueur.recipes.api.hook.Hook;
 import fr.traqueur.structura.api.Structura;
@@ -75,8 +82,11 @@ public class ZItems extends ItemsPlugin {
 
     private RecipesAPI recipesManager;
     private EffectsDispatcher dispatcher;
+    private ZEventsListener eventsListener;
     private InventoryManager inventoryManager;
     private ButtonManager buttonManager;
+    /** Whether the enable sequence completed, including its delayed registry population */
+    private boolean started;
 
     @Override
     public void onEnable() {
@@ -117,7 +127,7 @@ public class ZItems extends ItemsPlugin {
 
         Logger.info("Setting up event dispatching system...");
         this.dispatcher = new ZEffectsDispatcher();
-        ZEventsListener eventsListener = new ZEventsListener(this.dispatcher);
+        this.eventsListener = new ZEventsListener(this.dispatcher);
         Logger.info("<green>Event dispatching system initialized successfully!");
 
         // Register legacy rune migration listener (zItemsOld backward compatibility)
@@ -134,6 +144,17 @@ public class ZItems extends ItemsPlugin {
         ItemsManager itemsManager = this.registerManager(ItemsManager.class, new ZItemsManager());
 
         this.getServer().getPluginManager().registerEvents(new BlockTrackerListener(BlockTracker.get(), itemsManager, effectsManager), this);
+        BlockTracker.get().startFlushTask(this);
+
+        if (PlatformType.isPaper()) {
+            this.getServer().getPluginManager().registerEvents(EquipmentSnapshots.get(), this);
+            this.getServer().getPluginManager().registerEvents(EquipmentSnapshots.get().paperListener(), this);
+        }
+        this.getServer().getPluginManager().registerEvents(ApplicationResults.get(), this);
+        this.getServer().getPluginManager().registerEvents(SmeltingIndex.get(), this);
+        if (PlatformType.isPaper()) {
+            this.getServer().getPluginManager().registerEvents(SmeltingIndex.get().paperListener(), this);
+        }
 
         this.loadButtons();
         this.loadInventories();
@@ -142,10 +163,15 @@ public class ZItems extends ItemsPlugin {
 
 
         Bukkit.getScheduler().runTask(this, () -> {
+            long populateTime = System.currentTimeMillis();
             this.populateRegistries();
-            eventsListener.registerDynamicListeners(this);
+            Logger.info("Registries populated in <gold>{}ms<reset>.", System.currentTimeMillis() - populateTime);
+            ReflectionsCache.getInstance().logTimings();
+            this.eventsListener.registerDynamicListeners(this);
             itemsManager.generateRecipesFromLoadedItems();
             effectsManager.loadRecipes();
+            SmeltingIndex.get().rebuild();
+            this.started = true;
         });
 
         Logger.info("<yellow>=== ENABLE DONE <gray>(<gold>" + Math.abs(enableTime - System.currentTimeMillis()) + "ms<gray>) <yellow>===");
@@ -281,7 +307,11 @@ public class ZItems extends ItemsPlugin {
         Logger.info("<yellow>=== DISABLE START ===");
         Logger.info("<gray>Plugin Version V<red>{}", this.getDescription().getVersion());
 
+        this.started = false;
+        BlockTracker.get().flushAll();
         BlockTracker.get().clearCache();
+        EquipmentSnapshots.get().clear();
+        ApplicationResults.get().clear();
 
         MessageUtil.close();
 
@@ -297,8 +327,18 @@ public class ZItems extends ItemsPlugin {
     @Override
     public void reloadConfig() {
         super.reloadConfig();
+        MaterialMatcher.invalidateCaches();
+        if (ShopProviders.FOUND_PROVIDER != null) {
+            ShopProvider.get().invalidateCache();
+        }
         PluginSettings settings = this.createSettings(CONFIG_FILE, PluginSettings.class);
         Logger.setDebug(settings.debug());
+        TextTemplate.Stats textStats = TextTemplate.stats();
+        Logger.debug("Text cache: <gold>{}<reset> hits, <gold>{}<reset> misses, <gold>{}<reset> entries.",
+                textStats.hits(), textStats.misses(), textStats.size());
+        TextTemplate.invalidateCaches();
+        ApplicationResults.get().clear();
+        TextTemplate.configure(settings.textCacheTtl(), settings.textCacheSize());
         try {
             Structura.loadEnum(this.getDataFolder().toPath().resolve(MESSAGES_FILE), Messages.class);
         } catch (StructuraException e) {
@@ -315,6 +355,11 @@ public class ZItems extends ItemsPlugin {
             registry.loadFromFolder();
         }
 
+        // Listen only to the events of the effect types still in use
+        if (this.eventsListener != null && effectsRegistry != null) {
+            this.eventsListener.registerDynamicListeners(this);
+        }
+
         ItemsManager itemsManager = this.getManager(ItemsManager.class);
         if (itemsManager != null) {
             itemsManager.generateRecipesFromLoadedItems();
@@ -325,6 +370,12 @@ public class ZItems extends ItemsPlugin {
             effectsManager.loadRecipes();
         }
 
+        // While enabling, the enable sequence builds the index and starts the flush task itself
+        if (this.started) {
+            SmeltingIndex.get().rebuild();
+            BlockTracker.get().reloadFlushTask(this);
+        }
+
         this.loadInventories();
     }
 
@@ -361,4 +412,8 @@ public class ZItems extends ItemsPlugin {
     public InventoryManager getInventoryManager() {
         return inventoryManager;
     }
+
+    public ZEventsListener getEventsListener() {
+        return eventsListener;
+    }
 }
@@ -1,18 +1,24 @@
 package fr.traqueur.items.blocks;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
 import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.blocks.TrackedBlock;
+import fr.traqueur.items.api.settings.Settings;
 import fr.traqueur.items.serialization.Keys;
+import fr.traqueur.items.settings.PluginSettings;
 import fr.traqueur.items.utils.ChunkUtil;
+import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Tracks blocks placed from custom items to restore the correct item on break.
@@ -21,9 +27,18 @@ import java.util.*;
  * This allows custom items to be properly dropped when their placed blocks are broken.
  * <p>
  * Architecture:
- * - Memory: Guava Table&lt;WorldChunkKey, Integer, String&gt; where WorldChunkKey combines world UUID and chunk coordinates
- * - Persistence: Chunk PDC stores List&lt;TrackedBlock&gt; using custom TrackedBlockDataType
+ * - Memory: one {@link TrackedWorld} per world UUID, holding a primitive long-keyed chunk map of
+ *   {@link TrackedChunk} (packed position → palette index) and a per-world item ID palette
+ * - Persistence: Chunk PDC stores a single byte array encoded by {@link TrackedChunkCodec}
+ *   (legacy List&lt;TrackedBlock&gt; entries are read and upgraded on load)
  * - Load/Unload: Chunks are loaded into cache on ChunkLoadEvent and saved on ChunkUnloadEvent
+ *   if they changed since they were last persisted
+ * - Flush: dirty chunks are periodically snapshotted on the main thread, encoded asynchronously
+ *   and written back to chunk PDC in small per-tick batches, so a crash loses at most one
+ *   flush interval of tracking data; {@link #flushAll()} writes everything synchronously on disable
+ * <p>
+ * Lookups (e.g. on every BlockBreakEvent) compute the chunk key from block coordinates and
+ * never allocate.
  */
 public class BlockTracker {
 
@@ -34,26 +49,99 @@ public class BlockTracker {
     }
 
     /**
-     * In-memory cache using Guava Table for efficient chunk-based lookups.
-     * Row: WorldChunkKey (world UUID + chunk key) - unique identifier for each chunk across all worlds
-     * Column: Packed block position (int) - position within the chunk
-     * Value: Custom item ID (String)
+     * In-memory cache, one entry per world UUID to prevent collisions between
+     * chunks at the same X,Z position in different worlds (Overworld, Nether, End).
      */
-    private final Table<WorldChunkKey, Integer, String> cache;
+    private final Map<UUID, TrackedWorld> worlds;
+    /** Encoded chunks waiting to be written to chunk PDC on the main thread */
+    private final Queue<PendingWrite> pendingWrites;
+    /** Set while an asynchronous encoding pass is running, to never overlap two flushes */
+    private final AtomicBoolean encoding;
+    private final List<BukkitTask> tasks;
+    /** Flush settings the tasks were started with, -1 before the first start */
+    private int flushInterval = -1;
+    private int flushBatchSize = -1;
 
     private BlockTracker() {
-        this.cache = HashBasedTable.create();
+        this.worlds = new HashMap<>();
+        this.pendingWrites = new ConcurrentLinkedQueue<>();
+        this.encoding = new AtomicBoolean();
+        this.tasks = new ArrayList<>();
     }
 
     /**
-     * Composite key that uniquely identifies a chunk across all worlds.
-     * Combines world UUID with chunk coordinates to prevent collisions between
-     * chunks at the same X,Z position in different worlds (Overworld, Nether, End).
+     * Starts the periodic flush of dirty chunks, as configured in {@link PluginSettings}.
+     * Restarts it if it is already running.
+     *
+     * @param plugin the plugin owning the scheduled tasks
      */
-    private record WorldChunkKey(UUID worldUid, long chunkKey) {
-        WorldChunkKey(Chunk chunk) {
-            this(chunk.getWorld().getUID(), ChunkUtil.getChunkKey(chunk));
+    public void startFlushTask(Plugin plugin) {
+        stopFlushTask();
+        PluginSettings settings = Settings.get(PluginSettings.class);
+        int interval = settings.blockTrackerFlushInterval();
+        int batchSize = Math.max(1, settings.blockTrackerFlushBatchSize());
+        this.flushInterval = interval;
+        this.flushBatchSize = batchSize;
+        if (interval <= 0) {
+            Logger.info("Block tracker periodic flush is disabled, chunks are only saved on unload.");
+            return;
         }
+
+        tasks.add(Bukkit.getScheduler().runTaskTimer(plugin, () -> scheduleFlush(plugin), interval, interval));
+        tasks.add(Bukkit.getScheduler().runTaskTimer(plugin, () -> applyPendingWrites(batchSize), 1L, 1L));
+        Logger.debug("Block tracker flush scheduled every {} ticks ({} chunks per tick)", interval, batchSize);
+    }
+
+    /**
+     * Restarts the periodic flush when its settings changed since it was started, e.g. on reload.
+     * Unchanged settings keep the running tasks, so the next flush is not pushed back.
+     *
+     * @param plugin the plugin owning the scheduled tasks
+     */
+    public void reloadFlushTask(Plugin plugin) {
+        PluginSettings settings = Settings.get(PluginSettings.class);
+        if (settings.blockTrackerFlushInterval() == this.flushInterval
+                && Math.max(1, settings.blockTrackerFlushBatchSize()) == this.flushBatchSize) {
+            return;
+        }
+        startFlushTask(plugin);
+    }
+
+    /**
+     * Stops the periodic flush tasks. Pending writes are kept until {@link #flushAll()}.
+     */
+    public void stopFlushTask() {
+        tasks.forEach(BukkitTask::cancel);
+        tasks.clear();
+    }
+
+    /**
+     * Synchronously writes every dirty chunk to its chunk PDC.
+     * Must be called on the main thread, e.g. on plugin disable before {@link #clearCache()}.
+     */
+    public void flushAll() {
+        stopFlushTask();
+        // Writes from an unfinished pass are superseded by the synchronous writes below
+        pendingWrites.clear();
+
+        int[] flushed = new int[1];
+        worlds.forEach((worldId, trackedWorld) -> {
+            World world = Bukkit.getWorld(worldId);
+            if (world == null) {
+                return;
+            }
+            trackedWorld.forEachChunk((chunkKey, trackedChunk) -> {
+                if (!trackedChunk.isDirty() || !isChunkLoaded(world, chunkKey)) {
+                    return;
+                }
+                Chunk chunk = world.getChunkAt(chunkX(chunkKey), chunkZ(chunkKey));
+                byte[] data = trackedChunk.isEmpty() ? null : TrackedChunkCodec.encode(trackedWorld.paletteSnapshot(), trackedChunk);
+                write(chunk.getPersistentDataContainer(), data);
+                trackedChunk.markSaved(trackedChunk.modCount());
+                flushed[0]++;
+            });
+        });
+        Logger.info("Flushed {} dirty tracked chunks.", flushed[0]);
     }
 
     /**
@@ -63,10 +151,8 @@ public class BlockTracker {
      * @param itemId the custom item ID
      */
     public void trackBlock(Block block, String itemId) {
-        WorldChunkKey worldChunkKey = new WorldChunkKey(block.getChunk());
-        int packedPosition = packBlockPosition(block);
-
-        cache.put(worldChunkKey, packedPosition, itemId);
+        TrackedWorld world = worlds.computeIfAbsent(block.getWorld().getUID(), uid -> new TrackedWorld());
+        world.put(chunkKey(block), packBlockPosition(block), itemId);
 
         Logger.debug("Tracked block at {} with item ID: {}", formatBlockLocation(block), itemId);
     }
@@ -78,11 +164,11 @@ public class BlockTracker {
      * @return Optional containing the item ID, or empty if not tracked
      */
     public Optional<String> getTrackedItemId(Block block) {
-        WorldChunkKey worldChunkKey = new WorldChunkKey(block.getChunk());
-        int packedPosition = packBlockPosition(block);
-
-        String itemId = cache.get(worldChunkKey, packedPosition);
-        return Optional.ofNullable(itemId);
+        TrackedWorld world = worlds.get(block.getWorld().getUID());
+        if (world == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(world.get(chunkKey(block), packBlockPosition(block)));
     }
 
     /**
@@ -131,10 +217,12 @@ public class BlockTracker {
      * @param block the block to untrack
      */
     public void untrackBlock(Block block) {
-        WorldChunkKey worldChunkKey = new WorldChunkKey(block.getChunk());
-        int packedPosition = packBlockPosition(block);
+        TrackedWorld world = worlds.get(block.getWorld().getUID());
+        if (world == null) {
+            return;
+        }
 
-        String removed = cache.remove(worldChunkKey, packedPosition);
+        String removed = world.remove(chunkKey(block), packBlockPosition(block));
         if (removed != null) {
             Logger.debug("Untracked block at {}", formatBlockLocation(block));
         }
@@ -143,68 +231,196 @@ public class BlockTracker {
     /**
      * Loads tracked blocks from chunk PDC into memory cache.
      * Called on ChunkLoadEvent.
+     * <p>
+     * Chunks still using the legacy nested-PDC list are read and upgraded to the
+     * binary format in place.
      *
      * @param chunk the chunk being loaded
      */
     public void loadChunk(Chunk chunk) {
-        WorldChunkKey worldChunkKey = new WorldChunkKey(chunk);
         PersistentDataContainer pdc = chunk.getPersistentDataContainer();
+        long chunkKey = ChunkUtil.getChunkKey(chunk);
+
+        byte[] data = Keys.TRACKED_BLOCKS_DATA.get(pdc).orElse(null);
+        if (data != null) {
+            TrackedWorld world = worlds.computeIfAbsent(chunk.getWorld().getUID(), uid -> new TrackedWorld());
+            try {
+                TrackedChunk trackedChunk = TrackedChunkCodec.decode(world, data);
+                // Freshly read state matches chunk PDC
+                trackedChunk.markSaved(trackedChunk.modCount());
+                world.putChunk(chunkKey, trackedChunk);
+                Logger.debug("Loaded {} tracked blocks from chunk {} in world {}",
+                    trackedChunk.size(), chunkKey, chunk.getWorld().getName());
+            } catch (IllegalArgumentException e) {
+                Logger.severe("Failed to decode tracked blocks of chunk {} in world {}",
+                    e, chunkKey, chunk.getWorld().getName());
+            }
+            return;
+        }
 
         List<TrackedBlock> trackedBlocks = Keys.TRACKED_BLOCKS.get(pdc, new ArrayList<>());
 
         if (!trackedBlocks.isEmpty()) {
+            TrackedWorld world = worlds.computeIfAbsent(chunk.getWorld().getUID(), uid -> new TrackedWorld());
+            TrackedChunk trackedChunk = new TrackedChunk(trackedBlocks.size());
             for (TrackedBlock trackedBlock : trackedBlocks) {
-                cache.put(worldChunkKey, trackedBlock.packedPosition(), trackedBlock.itemId());
+                trackedChunk.put(trackedBlock.packedPosition(), world.intern(trackedBlock.itemId()));
             }
+            world.putChunk(chunkKey, trackedChunk);
 
-            Logger.debug("Loaded {} tracked blocks from chunk {} in world {}",
-                trackedBlocks.size(), ChunkUtil.getChunkKey(chunk), chunk.getWorld().getName());
+            // Upgrade the chunk to the binary format
+            write(pdc, TrackedChunkCodec.encode(world.paletteSnapshot(), trackedChunk));
+            trackedChunk.markSaved(trackedChunk.modCount());
+
+            Logger.debug("Loaded and upgraded {} legacy tracked blocks from chunk {} in world {}",
+                trackedBlocks.size(), chunkKey, chunk.getWorld().getName());
         }
     }
 
     /**
      * Saves tracked blocks from memory cache to chunk PDC.
      * Called on ChunkUnloadEvent.
+     * <p>
+     * Chunks that did not change since they were last persisted are dropped from the
+     * cache without touching chunk PDC.
      *
      * @param chunk the chunk being unloaded
      */
     public void unloadChunk(Chunk chunk) {
-        WorldChunkKey worldChunkKey = new WorldChunkKey(chunk);
-        Map<Integer, String> chunkData = cache.row(worldChunkKey);
+        long chunkKey = ChunkUtil.getChunkKey(chunk);
+        TrackedWorld world = worlds.get(chunk.getWorld().getUID());
+        // Remove from cache, the chunk data is persisted below
+        TrackedChunk trackedChunk = world == null ? null : world.removeChunk(chunkKey);
 
-        PersistentDataContainer pdc = chunk.getPersistentDataContainer();
+        if (trackedChunk == null || !trackedChunk.isDirty()) {
+            return;
+        }
+
+        // Any write still pending for this chunk is skipped since the chunk left the cache
+        byte[] data = trackedChunk.isEmpty() ? null : TrackedChunkCodec.encode(world.paletteSnapshot(), trackedChunk);
+        write(chunk.getPersistentDataContainer(), data);
+
+        Logger.debug("Saved {} tracked blocks for chunk {} in world {}",
+            trackedChunk.size(), chunkKey, chunk.getWorld().getName());
+    }
+
+    /**
+     * Snapshots dirty chunks on the main thread and encodes them asynchronously.
+     */
+    private void scheduleFlush(Plugin plugin) {
+        if (!encoding.compareAndSet(false, true)) {
+            return;
+        }
 
-        if (!chunkData.isEmpty()) {
-            // Convert map to list of TrackedBlock
-            List<TrackedBlock> trackedBlocks = new ArrayList<>(chunkData.size());
-            for (Map.Entry<Integer, String> entry : chunkData.entrySet()) {
-                trackedBlocks.add(new ZTrackedBlock(entry.getKey(), entry.getValue()));
+        List<DirtyChunk> dirtyChunks = new ArrayList<>();
+        worlds.forEach((worldId, trackedWorld) -> {
+            String[] palette = trackedWorld.paletteSnapshot();
+            trackedWorld.forEachChunk((chunkKey, trackedChunk) -> {
+                if (trackedChunk.isDirty()) {
+                    dirtyChunks.add(new DirtyChunk(worldId, chunkKey, trackedChunk, trackedChunk.copy(), palette));
+                }
+            });
+        });
+
+        if (dirtyChunks.isEmpty()) {
+            encoding.set(false);
+            return;
+        }
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                for (DirtyChunk dirtyChunk : dirtyChunks) {
+                    TrackedChunk snapshot = dirtyChunk.snapshot();
+                    byte[] data = snapshot.isEmpty() ? null : TrackedChunkCodec.encode(dirtyChunk.palette(), snapshot);
+                    pendingWrites.add(new PendingWrite(dirtyChunk.worldId(), dirtyChunk.chunkKey(), dirtyChunk.source(), snapshot.modCount(), data));
+                }
+                Logger.debug("Encoded {} dirty tracked chunks", dirtyChunks.size());
+            } catch (Exception e) {
+                Logger.severe("Failed to encode tracked chunks", e);
+            } finally {
+                encoding.set(false);
             }
+        });
+    }
 
-            Keys.TRACKED_BLOCKS.set(pdc, trackedBlocks);
+    /**
+     * Writes up to {@code batchSize} encoded chunks to their chunk PDC.
+     * Writes whose chunk was unloaded since the snapshot are skipped: the unload already persisted it.
+     */
+    private void applyPendingWrites(int batchSize) {
+        for (int i = 0; i < batchSize; i++) {
+            PendingWrite pendingWrite = pendingWrites.poll();
+            if (pendingWrite == null) {
+                return;
+            }
 
-            Logger.debug("Saved {} tracked blocks for chunk {} in world {}",
-                trackedBlocks.size(), ChunkUtil.getChunkKey(chunk), chunk.getWorld().getName());
+            TrackedWorld trackedWorld = worlds.get(pendingWrite.worldId());
+            if (trackedWorld == null || trackedWorld.getChunk(pendingWrite.chunkKey()) != pendingWrite.source()) {
+                continue;
+            }
+            World world = Bukkit.getWorld(pendingWrite.worldId());
+            if (world == null || !isChunkLoaded(world, pendingWrite.chunkKey())) {
+                continue;
+            }
 
-            // Remove from cache after saving
-            cache.row(worldChunkKey).clear();
+            Chunk chunk = world.getChunkAt(chunkX(pendingWrite.chunkKey()), chunkZ(pendingWrite.chunkKey()));
+            write(chunk.getPersistentDataContainer(), pendingWrite.data());
+            pendingWrite.source().markSaved(pendingWrite.modCount());
+        }
+    }
+
+    /**
+     * Writes encoded tracked blocks to chunk PDC, removing the entry when nothing is tracked.
+     */
+    private void write(PersistentDataContainer pdc, byte[] data) {
+        if (data == null) {
+            pdc.remove(Keys.TRACKED_BLOCKS_DATA.getNamespacedKey());
         } else {
-            // Remove PDC data if no blocks are tracked (cleanup)
-            pdc.remove(Keys.TRACKED_BLOCKS.getNamespacedKey());
+            Keys.TRACKED_BLOCKS_DATA.set(pdc, data);
         }
+        pdc.remove(Keys.TRACKED_BLOCKS.getNamespacedKey());
+    }
+
+    private boolean isChunkLoaded(World world, long chunkKey) {
+        return world.isChunkLoaded(chunkX(chunkKey), chunkZ(chunkKey));
+    }
+
+    private static int chunkX(long chunkKey) {
+        return (int) chunkKey;
+    }
+
+    private static int chunkZ(long chunkKey) {
+        return (int) (chunkKey >> 32);
     }
 
     /**
      * Clears all tracked blocks from memory cache.
-     * Does NOT affect persistent data in chunk PDC.
+     * Does NOT affect persistent data in chunk PDC, call {@link #flushAll()} first to keep changes.
      */
     public void clearCache() {
-        int totalBlocks = cache.size();
-        int totalChunks = cache.rowKeySet().size();
-        cache.clear();
+        stopFlushTask();
+        pendingWrites.clear();
+        int totalBlocks = 0;
+        int totalChunks = 0;
+        for (TrackedWorld world : worlds.values()) {
+            totalBlocks += world.blockCount();
+            totalChunks += world.chunkCount();
+        }
+        worlds.clear();
         Logger.info("Cleared block tracker cache ({} chunks, {} blocks)", totalChunks, totalBlocks);
     }
 
+    /**
+     * Computes the key of the chunk containing a block from its coordinates,
+     * without loading or materializing the {@link Chunk}.
+     *
+     * @param block the block
+     * @return the chunk key
+     */
+    private long chunkKey(Block block) {
+        return ChunkUtil.getChunkKey(block.getX() >> 4, block.getZ() >> 4);
+    }
+
     /**
      * Packs block coordinates relative to chunk into a single integer using bit shifting.
      * <p>
@@ -274,4 +490,28 @@ public class BlockTracker {
             block.getZ()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Main-thread snapshot of a dirty chunk, handed to the asynchronous encoder.
+     *
+     * @param worldId  the world UUID
+     * @param chunkKey the chunk key
+     * @param source   the live chunk, used to detect unloads before the write is applied
+     * @param snapshot an independent copy of the chunk
+     * @param palette  the world palette at snapshot time
+     */
+    private record DirtyChunk(UUID worldId, long chunkKey, TrackedChunk source, TrackedChunk snapshot, String[] palette) {
+    }
+
+    /**
+     * Encoded chunk waiting to be written on the main thread.
+     *
+     * @param worldId  the world UUID
+     * @param chunkKey the chunk key
+     * @param source   the live chunk the data was encoded from
+     * @param modCount the modification counter of the encoded state
+     * @param data     the encoded bytes, or null if nothing is tracked anymore
+     */
+    private record PendingWrite(UUID worldId, long chunkKey, TrackedChunk source, int modCount, byte[] data) {
+    }
+}
@@ -0,0 +1,178 @@
+package fr.traqueur.items.blocks;
+
+import fr.traqueur.items.api.Logger;
+import fr.traqueur.items.api.blocks.LocationAccess;
+import fr.traqueur.items.api.effects.EffectContext;
+import fr.traqueur.items.api.registries.CustomBlockProviderRegistry;
+import fr.traqueur.items.api.registries.LocationAccessRegistry;
+import fr.traqueur.items.api.registries.Registry;
+import fr.traqueur.items.utils.BlockPosUtil;
+import fr.traqueur.items.utils.DropUtil;
+import fr.traqueur.items.utils.EventUtil;
+import fr.traqueur.items.utils.LongHashSet;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Shared engine for effects breaking many blocks at once (Hammer, VeinMiner).
+ * <p>
+ * {@link #breakBlocks(EffectContext, List)} runs the whole pipeline in batched stages:
+ * <ol>
+ *   <li>Protection checks against every {@link LocationAccess}, resolved for the whole area when the hooks can</li>
+ *   <li>Synthetic {@link BlockBreakEvent}s, only built when some plugins are configured to receive them</li>
+ *   <li>Custom block resolution in one pass through {@link CustomBlockProviderRegistry#getCustomBlockDrops(Collection, Player)}</li>
+ *   <li>Vanilla drops for the other blocks, merged into full stacks before being added to the context</li>
+ * </ol>
+ * Broken blocks are registered as affected blocks of the context and removed afterwards by
+ * {@link #removeBlocks(Collection)}, so handlers running later (e.g. MeltMining) still see them.
+ */
+public final class BulkBlockBreaker {
+
+    private static final int[][] FACES = {{1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}};
+
+    private BulkBlockBreaker() {
+        // Utility class
+    }
+
+    /**
+     * Breaks blocks on behalf of the context executor.
+     * <p>
+     * If at least one block passes the protection checks, the triggering event is cancelled
+     * so the engine takes over the vanilla break.
+     *
+     * @param context    the effect context receiving affected blocks and drops
+     * @param candidates the blocks to break, already filtered by the effect settings
+     * @return the number of blocks actually broken
+     */
+    public static int breakBlocks(EffectContext context, List<Block> candidates) {
+        Player player = context.executor();
+
+        List<Block> accessible = filterAccessible(player, candidates);
+        if (accessible.isEmpty()) {
+            return 0;
+        }
+        if (context.event() instanceof Cancellable cancellable) {
+            cancellable.setCancelled(true);
+        }
+
+        List<Block> broken;
+        if (EventUtil.isForwardingEvents()) {
+            broken = new ArrayList<>(accessible.size());
+            for (Block block : accessible) {
+                // Fire BlockBreakEvent for allowed plugins only, skip the block if cancelled
+                if (EventUtil.fireEvent(new BlockBreakEvent(block, player), BlockBreakEvent.getHandlerList())) {
+                    broken.add(block);
+                }
+            }
+        } else {
+            broken = accessible;
+        }
+
+        if (broken.isEmpty()) {
+            return 0;
+        }
+
+        // Custom blocks (zItems, ItemsAdder, Nexo, Oraxen, etc.), only resolved for confirmed breaks
+        Map<Block, List<ItemStack>> customDrops = Registry.get(CustomBlockProviderRegistry.class).getCustomBlockDrops(broken, player);
+
+        List<ItemStack> drops = new ArrayList<>();
+        for (Block block : broken) {
+            context.affectedBlocks().add(block);
+            List<ItemStack> customDrop = customDrops.get(block);
+            if (customDrop != null) {
+                drops.addAll(customDrop);
+            } else {
+                drops.addAll(block.getDrops(context.itemSource()));
+            }
+        }
+
+        List<ItemStack> merged = DropUtil.merge(drops);
+        context.addDrops(merged);
+
+        Logger.debug("Bulk break of {} blocks ({} custom) produced {} stacks",
+                broken.size(), customDrops.size(), merged.size());
+        return broken.size();
+    }
+
+    /**
+     * Removes blocks, only applying physics where a block borders something outside the set
+     * that may react to it (fluids, attached or falling blocks). Interior blocks are removed
+     * without neighbour updates.
+     *
+     * @param blocks the blocks to remove
+     */
+    public static void removeBlocks(Collection<Block> blocks) {
+        if (blocks.isEmpty()) {
+            return;
+        }
+
+        LongHashSet positions = new LongHashSet(blocks.size());
+        for (Block block : blocks) {
+            positions.add(BlockPosUtil.pack(block));
+        }
+
+        // Decide before changing anything, so removed blocks are not mistaken for air neighbours
+        Block[] ordered = blocks.toArray(new Block[0]);
+        boolean[] physics = new boolean[ordered.length];
+        for (int i = 0; i < ordered.length; i++) {
+            physics[i] = hasExternalNeighbour(ordered[i], positions);
+        }
+
+        for (int i = 0; i < ordered.length; i++) {
+            ordered[i].setType(Material.AIR, physics[i]);
+        }
+    }
+
+    private static boolean hasExternalNeighbour(Block block, LongHashSet positions) {
+        World world = block.getWorld();
+        for (int[] face : FACES) {
+            int x = block.getX() + face[0];
+            int y = block.getY() + face[1];
+            int z = block.getZ() + face[2];
+            if (positions.contains(BlockPosUtil.pack(x, y, z))) {
+                continue;
+            }
+            if (y < world.getMinHeight() || y >= world.getMaxHeight() || !world.isChunkLoaded(x >> 4, z >> 4)) {
+                continue;
+            }
+            if (!world.getType(x, y, z).isAir()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keeps the blocks every registered {@link LocationAccess} lets the player break.
+     * Hooks are asked for the area covering all candidates first, and per block only when
+     * their answer for the area is mixed.
+     */
+    private static List<Block> filterAccessible(Player player, List<Block> candidates) {
+        Collection<LocationAccess> accesses = Registry.get(LocationAccessRegistry.class).getAll();
+        if (accesses.isEmpty() || candidates.isEmpty()) {
+            return candidates;
+        }
+
+        World world = candidates.getFirst().getWorld();
+        Predicate<Location> canBreak = EventUtil.canBreakArea(player, world, EventUtil.areaOf(candidates));
+
+        List<Block> accessible = new ArrayList<>(candidates.size());
+        Location location = new Location(null, 0, 0, 0);
+        for (Block block : candidates) {
+            block.getLocation(location);
+            if (canBreak.test(location)) {
+                accessible.add(block);
+            }
+        }
+        return accessible;
+    }
+}
@@ -0,0 +1,262 @@
+package fr.traqueur.items.blocks;
+
+import java.util.Arrays;
+
+/**
+ * Tracked blocks of a single chunk, stored as a primitive open-addressing map.
+ * <p>
+ * Keys are packed chunk-relative positions (see {@link BlockTracker}), values are
+ * indices into the owning {@link TrackedWorld} palette. Lookups never allocate.
+ * <p>
+ * Collisions are resolved with linear probing, and removals use backward-shift
+ * deletion so no tombstones accumulate on chunks with many break/place cycles.
+ * <p>
+ * Every mutation bumps a modification counter; the chunk is dirty while that counter
+ * differs from the last counter persisted to chunk PDC.
+ */
+final class TrackedChunk {
+
+    /** Marker for empty slots, packed positions are always positive */
+    static final int EMPTY = -1;
+    /** Returned by lookups when the position is not tracked */
+    static final short NO_VALUE = -1;
+
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] positions;
+    private short[] values;
+    private int size;
+    private int modCount;
+    private int savedModCount;
+
+    TrackedChunk() {
+        this(MIN_CAPACITY);
+    }
+
+    TrackedChunk(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        this.positions = new int[capacity];
+        this.values = new short[capacity];
+        Arrays.fill(this.positions, EMPTY);
+    }
+
+    private TrackedChunk(TrackedChunk source) {
+        this.positions = source.positions.clone();
+        this.values = source.values.clone();
+        this.size = source.size;
+        this.modCount = source.modCount;
+        this.savedModCount = source.savedModCount;
+    }
+
+    /**
+     * Gets the palette index stored for a position.
+     *
+     * @param position the packed position
+     * @return the palette index, or {@link #NO_VALUE} if not tracked
+     */
+    short get(int position) {
+        int mask = positions.length - 1;
+        int slot = mix(position) & mask;
+        while (true) {
+            int current = positions[slot];
+            if (current == EMPTY) {
+                return NO_VALUE;
+            }
+            if (current == position) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Stores a palette index for a position, replacing any previous value.
+     *
+     * @param position     the packed position
+     * @param paletteIndex the palette index
+     */
+    void put(int position, short paletteIndex) {
+        if ((size + 1) * 4 > positions.length * 3) {
+            resize(positions.length << 1);
+        }
+        int mask = positions.length - 1;
+        int slot = mix(position) & mask;
+        while (true) {
+            int current = positions[slot];
+            if (current == EMPTY) {
+                positions[slot] = position;
+                values[slot] = paletteIndex;
+                size++;
+                modCount++;
+                return;
+            }
+            if (current == position) {
+                if (values[slot] != paletteIndex) {
+                    values[slot] = paletteIndex;
+                    modCount++;
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes a position.
+     *
+     * @param position the packed position
+     * @return the removed palette index, or {@link #NO_VALUE} if not tracked
+     */
+    short remove(int position) {
+        int mask = positions.length - 1;
+        int slot = mix(position) & mask;
+        while (true) {
+            int current = positions[slot];
+            if (current == EMPTY) {
+                return NO_VALUE;
+            }
+            if (current == position) {
+                short removed = values[slot];
+                shiftBack(slot, mask);
+                size--;
+                modCount++;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Gets the number of tracked positions.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether no position is tracked.
+     *
+     * @return true if empty
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the modification counter, bumped on every change.
+     *
+     * @return the modification counter
+     */
+    int modCount() {
+        return modCount;
+    }
+
+    /**
+     * Checks whether the chunk changed since it was last persisted.
+     *
+     * @return true if the chunk must be written back to chunk PDC
+     */
+    boolean isDirty() {
+        return modCount != savedModCount;
+    }
+
+    /**
+     * Records that the state at the given modification counter has been persisted.
+     * Older states than the one already recorded are ignored.
+     *
+     * @param persistedModCount the modification counter of the persisted state
+     */
+    void markSaved(int persistedModCount) {
+        if (persistedModCount - savedModCount > 0) {
+            savedModCount = persistedModCount;
+        }
+    }
+
+    /**
+     * Creates an independent copy, safe to read from another thread.
+     *
+     * @return the copy
+     */
+    TrackedChunk copy() {
+        return new TrackedChunk(this);
+    }
+
+    /**
+     * Iterates over every tracked position.
+     *
+     * @param consumer the consumer receiving each entry
+     */
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] != EMPTY) {
+                consumer.accept(positions[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Closes the gap left by a removed slot by moving back the entries of its probe chain.
+     */
+    private void shiftBack(int slot, int mask) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (positions[next] != EMPTY) {
+            int ideal = mix(positions[next]) & mask;
+            // Move the entry if its ideal slot is not in the (gap, next] cyclic range
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                positions[gap] = positions[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        positions[gap] = EMPTY;
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldPositions = positions;
+        short[] oldValues = values;
+        positions = new int[newCapacity];
+        values = new short[newCapacity];
+        Arrays.fill(positions, EMPTY);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldPositions.length; i++) {
+            int position = oldPositions[i];
+            if (position == EMPTY) {
+                continue;
+            }
+            int slot = mix(position) & mask;
+            while (positions[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            positions[slot] = position;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3 < expectedSize * 4) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Spreads packed positions, whose low bits only hold the Y coordinate.
+     */
+    private static int mix(int position) {
+        int h = position * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Receives tracked entries without boxing.
+     */
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int position, short paletteIndex);
+    }
+}
@@ -0,0 +1,200 @@
+package fr.traqueur.items.blocks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact, versioned binary encoding of a chunk's tracked blocks, stored as a single
+ * {@code BYTE_ARRAY} entry in chunk PDC.
+ * <p>
+ * <b>Layout (version 1):</b>
+ * <pre>
+ * byte    version (1)
+ * varint  palette size P
+ * P times varint length + UTF-8 bytes of an item ID
+ * varint  entry count N
+ * N times varint position delta (entries sorted by packed position), varint palette index
+ * </pre>
+ * The palette is local to the chunk and only holds the item IDs used in it. Sorted positions
+ * make the deltas small: a column of blocks typically costs 2 bytes per block.
+ */
+final class TrackedChunkCodec {
+
+    static final byte VERSION = 1;
+
+    private TrackedChunkCodec() {
+        // Utility class
+    }
+
+    /**
+     * Encodes a tracked chunk.
+     * <p>
+     * Only reads its arguments, so it can run off the main thread on a
+     * {@link TrackedChunk#copy()} and a {@link TrackedWorld#paletteSnapshot()}.
+     *
+     * @param palette the world palette snapshot, indexed by palette index
+     * @param chunk   the chunk to encode
+     * @return the encoded bytes
+     */
+    static byte[] encode(String[] palette, TrackedChunk chunk) {
+        // Remap world palette indices to a dense chunk-local palette
+        short[] localIndices = new short[palette.length];
+        Arrays.fill(localIndices, (short) -1);
+        String[] localPalette = new String[Math.min(chunk.size(), localIndices.length)];
+        long[] entries = new long[chunk.size()];
+        int[] counters = new int[2]; // [palette size, entry count]
+
+        chunk.forEach((position, paletteIndex) -> {
+            short local = localIndices[paletteIndex];
+            if (local == -1) {
+                local = (short) counters[0];
+                localIndices[paletteIndex] = local;
+                localPalette[counters[0]++] = palette[paletteIndex];
+            }
+            entries[counters[1]++] = ((long) position << 16) | local;
+        });
+        Arrays.sort(entries);
+
+        Writer writer = new Writer(16 + entries.length * 3);
+        writer.writeByte(VERSION);
+        writer.writeVarInt(counters[0]);
+        for (int i = 0; i < counters[0]; i++) {
+            byte[] bytes = localPalette[i].getBytes(StandardCharsets.UTF_8);
+            writer.writeVarInt(bytes.length);
+            writer.writeBytes(bytes);
+        }
+        writer.writeVarInt(entries.length);
+        int previous = 0;
+        for (long entry : entries) {
+            int position = (int) (entry >>> 16);
+            writer.writeVarInt(position - previous);
+            writer.writeVarInt((int) (entry & 0xFFFF));
+            previous = position;
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decodes a tracked chunk, interning its item IDs into the world palette.
+     *
+     * @param world the world owning the chunk palette
+     * @param data  the encoded bytes
+     * @return the decoded chunk
+     * @throws IllegalArgumentException if the data is malformed or of an unknown version
+     */
+    static TrackedChunk decode(TrackedWorld world, byte[] data) {
+        Reader reader = new Reader(data);
+        byte version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported tracked blocks format version " + version);
+        }
+
+        int paletteSize = reader.readVarInt();
+        if (paletteSize < 0 || paletteSize > reader.remaining()) {
+            throw new IllegalArgumentException("Invalid palette size " + paletteSize + " in tracked blocks data");
+        }
+        short[] worldIndices = new short[paletteSize];
+        for (int i = 0; i < paletteSize; i++) {
+            int length = reader.readVarInt();
+            worldIndices[i] = world.intern(reader.readString(length));
+        }
+
+        int count = reader.readVarInt();
+        if (count < 0 || count > reader.remaining() / 2) {
+            throw new IllegalArgumentException("Invalid entry count " + count + " in tracked blocks data");
+        }
+        TrackedChunk chunk = new TrackedChunk(count);
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            position += reader.readVarInt();
+            int local = reader.readVarInt();
+            if (local < 0 || local >= paletteSize) {
+                throw new IllegalArgumentException("Palette index " + local + " out of bounds (" + paletteSize + ")");
+            }
+            chunk.put(position, worldIndices[local]);
+        }
+        return chunk;
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+        private int length;
+
+        private Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) value;
+        }
+
+        private void writeBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+        private void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, length + extra));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private int offset;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private int remaining() {
+            return data.length - offset;
+        }
+
+        private byte readByte() {
+            if (offset >= data.length) {
+                throw new IllegalArgumentException("Unexpected end of tracked blocks data");
+            }
+            return data[offset++];
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("VarInt too long in tracked blocks data");
+        }
+
+        private String readString(int length) {
+            if (length < 0 || offset + length > data.length) {
+                throw new IllegalArgumentException("Invalid string length " + length + " in tracked blocks data");
+            }
+            String value = new String(data, offset, length, StandardCharsets.UTF_8);
+            offset += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package fr.traqueur.items.blocks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracked blocks of a single world.
+ * <p>
+ * Chunks are stored in a primitive long-keyed open-addressing map (keyed by
+ * {@link fr.traqueur.items.utils.ChunkUtil#getChunkKey(int, int)}) so lookups never box.
+ * Item IDs are interned into a per-world palette and chunks only store the palette index.
+ * The palette only grows: the number of distinct custom block items is small and bounded by configuration.
+ */
+final class TrackedWorld {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final List<String> palette;
+    private final Map<String, Short> paletteIndices;
+    /** Immutable copy of the palette handed to encoders, rebuilt after an intern */
+    private String[] paletteSnapshot;
+
+    private long[] chunkKeys;
+    private TrackedChunk[] chunks;
+    private int size;
+
+    TrackedWorld() {
+        this.palette = new ArrayList<>();
+        this.paletteIndices = new HashMap<>();
+        this.chunkKeys = new long[MIN_CAPACITY];
+        this.chunks = new TrackedChunk[MIN_CAPACITY];
+    }
+
+    /**
+     * Gets the item ID tracked at a position.
+     *
+     * @param chunkKey the chunk key
+     * @param position the packed position within the chunk
+     * @return the item ID, or null if not tracked
+     */
+    String get(long chunkKey, int position) {
+        TrackedChunk chunk = getChunk(chunkKey);
+        if (chunk == null) {
+            return null;
+        }
+        short index = chunk.get(position);
+        return index == TrackedChunk.NO_VALUE ? null : palette.get(index);
+    }
+
+    /**
+     * Tracks an item ID at a position.
+     *
+     * @param chunkKey the chunk key
+     * @param position the packed position within the chunk
+     * @param itemId   the item ID
+     */
+    void put(long chunkKey, int position, String itemId) {
+        getOrCreateChunk(chunkKey).put(position, intern(itemId));
+    }
+
+    /**
+     * Untracks a position.
+     * <p>
+     * Emptied chunks are kept until unload so their removal is persisted.
+     *
+     * @param chunkKey the chunk key
+     * @param position the packed position within the chunk
+     * @return the removed item ID, or null if not tracked
+     */
+    String remove(long chunkKey, int position) {
+        TrackedChunk chunk = getChunk(chunkKey);
+        if (chunk == null) {
+            return null;
+        }
+        short index = chunk.remove(position);
+        return index == TrackedChunk.NO_VALUE ? null : palette.get(index);
+    }
+
+    /**
+     * Gets the tracked chunk for a key.
+     *
+     * @param chunkKey the chunk key
+     * @return the chunk, or null if nothing is tracked in it
+     */
+    TrackedChunk getChunk(long chunkKey) {
+        int mask = chunkKeys.length - 1;
+        int slot = mix(chunkKey) & mask;
+        while (chunks[slot] != null) {
+            if (chunkKeys[slot] == chunkKey) {
+                return chunks[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the tracked chunk for a key, creating it if needed.
+     *
+     * @param chunkKey the chunk key
+     * @return the chunk
+     */
+    TrackedChunk getOrCreateChunk(long chunkKey) {
+        TrackedChunk chunk = getChunk(chunkKey);
+        if (chunk == null) {
+            chunk = new TrackedChunk();
+            insert(chunkKey, chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Stores a chunk, replacing any chunk tracked under the same key.
+     *
+     * @param chunkKey the chunk key
+     * @param chunk    the chunk
+     */
+    void putChunk(long chunkKey, TrackedChunk chunk) {
+        removeChunk(chunkKey);
+        insert(chunkKey, chunk);
+    }
+
+    /**
+     * Removes a chunk.
+     *
+     * @param chunkKey the chunk key
+     * @return the removed chunk, or null if nothing was tracked in it
+     */
+    TrackedChunk removeChunk(long chunkKey) {
+        int mask = chunkKeys.length - 1;
+        int slot = mix(chunkKey) & mask;
+        while (chunks[slot] != null) {
+            if (chunkKeys[slot] == chunkKey) {
+                TrackedChunk removed = chunks[slot];
+                shiftBack(slot, mask);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Interns an item ID into the palette.
+     *
+     * @param itemId the item ID
+     * @return the palette index
+     */
+    short intern(String itemId) {
+        Short index = paletteIndices.get(itemId);
+        if (index != null) {
+            return index;
+        }
+        if (palette.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Block tracker palette is full (" + palette.size() + " item IDs)");
+        }
+        short newIndex = (short) palette.size();
+        palette.add(itemId);
+        paletteIndices.put(itemId, newIndex);
+        paletteSnapshot = null;
+        return newIndex;
+    }
+
+    /**
+     * Gets an immutable snapshot of the palette, indexed by palette index.
+     * <p>
+     * The returned array must not be modified. It stays valid for every chunk state
+     * captured before the next intern, and can be read from any thread.
+     *
+     * @return the palette snapshot
+     */
+    String[] paletteSnapshot() {
+        String[] snapshot = paletteSnapshot;
+        if (snapshot == null) {
+            snapshot = palette.toArray(new String[0]);
+            paletteSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets the number of chunks with tracked blocks.
+     *
+     * @return the number of chunks
+     */
+    int chunkCount() {
+        return size;
+    }
+
+    /**
+     * Gets the total number of tracked blocks in this world.
+     *
+     * @return the number of blocks
+     */
+    int blockCount() {
+        int total = 0;
+        for (TrackedChunk chunk : chunks) {
+            if (chunk != null) {
+                total += chunk.size();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Iterates over every tracked chunk.
+     *
+     * @param consumer the consumer receiving each chunk with its key
+     */
+    void forEachChunk(ChunkConsumer consumer) {
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null) {
+                consumer.accept(chunkKeys[i], chunks[i]);
+            }
+        }
+    }
+
+    private void insert(long chunkKey, TrackedChunk chunk) {
+        if ((size + 1) * 4 > chunkKeys.length * 3) {
+            resize(chunkKeys.length << 1);
+        }
+        int mask = chunkKeys.length - 1;
+        int slot = mix(chunkKey) & mask;
+        while (chunks[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        chunkKeys[slot] = chunkKey;
+        chunks[slot] = chunk;
+        size++;
+    }
+
+    private void shiftBack(int slot, int mask) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (chunks[next] != null) {
+            int ideal = mix(chunkKeys[next]) & mask;
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                chunkKeys[gap] = chunkKeys[next];
+                chunks[gap] = chunks[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        chunks[gap] = null;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = chunkKeys;
+        TrackedChunk[] oldChunks = chunks;
+        chunkKeys = new long[newCapacity];
+        chunks = new TrackedChunk[newCapacity];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldChunks.length; i++) {
+            if (oldChunks[i] == null) {
+                continue;
+            }
+            int slot = mix(oldKeys[i]) & mask;
+            while (chunks[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            chunkKeys[slot] = oldKeys[i];
+            chunks[slot] = oldChunks[i];
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Receives tracked chunks without boxing their key.
+     */
+    @FunctionalInterface
+    interface ChunkConsumer {
+        void accept(long chunkKey, TrackedChunk chunk);
+    }
+}
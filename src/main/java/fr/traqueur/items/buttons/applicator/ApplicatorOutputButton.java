@@ -11,15 +11,17 @@ import fr.traqueur.items.api.managers.EffectsManager;
 import fr.traqueur.items.api.registries.ApplicatorsRegistry;
 import fr.traqueur.items.api.registries.Registry;
 import fr.traqueur.items.api.utils.ItemUtil;
+import fr.traqueur.items.effects.ApplicationResults;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Output button that displays the result of applying an effect to an item.
@@ -28,6 +30,7 @@ import java.util.Objects;
 public class ApplicatorOutputButton extends Button {
 
     private final ItemsPlugin plugin;
+    private volatile SlotLayout layout;
 
     public ApplicatorOutputButton(Plugin plugin) {
         this.plugin = (ItemsPlugin) plugin;
@@ -45,42 +48,57 @@ public class ApplicatorOutputButton extends Button {
     }
 
     private ItemStack calculateResult(Player player, InventoryEngine inventory) {
+        SlotLayout layout = getLayout(inventory);
+        Inventory contents = inventory.getInventory();
+
+        ItemStack baseItem = getItem(contents, layout.base());
+        ItemStack effectItem = getItem(contents, layout.effect());
+        List<ItemStack> inputItems = new ArrayList<>(layout.inputs().length);
+        for (int slot : layout.inputs()) {
+            ItemStack item = contents.getItem(slot);
+            if (item != null) {
+                inputItems.add(item);
+            }
+        }
+
+        ItemStack result = ApplicationResults.get().getResult(player, ApplicationResults.Station.APPLICATOR,
+                baseItem, effectItem, inputItems, () -> computeResult(player, baseItem, effectItem, inputItems));
+        return result != null ? result : new ItemStack(Material.AIR);
+    }
+
+    private ItemStack computeResult(Player player, ItemStack baseItem, ItemStack effectItem, List<ItemStack> inputItems) {
         EffectsManager effectsManager = plugin.getManager(EffectsManager.class);
         ApplicatorsRegistry applicatorsRegistry = Registry.get(ApplicatorsRegistry.class);
 
         if (effectsManager == null || applicatorsRegistry == null) {
-            return new ItemStack(Material.AIR);
+            return null;
         }
 
-        ItemStack baseItem = getBaseItem(inventory);
-        ItemStack effectItem = getEffectItem(inventory);
-        List<ItemStack> inputItems = getInputItems(inventory);
-
         // Validate effect item
         if (!effectsManager.isEffectItem(effectItem)) {
-            return new ItemStack(Material.AIR);
+            return null;
         }
 
         Effect effect = effectsManager.getEffectFromItem(effectItem);
         if (effect == null) {
-            return new ItemStack(Material.AIR);
+            return null;
         }
 
         // Get applicator for this effect
         Applicator applicator = applicatorsRegistry.getByEffect(effect);
         if (applicator == null) {
             Logger.debug("No applicator found for effect {}", effect.id());
-            return new ItemStack(Material.AIR);
+            return null;
         }
 
         // Combine all inputs for validation
-        List<ItemStack> allInputs = new ArrayList<>();
+        List<ItemStack> allInputs = new ArrayList<>(inputItems.size() + 1);
         allInputs.add(effectItem);
         allInputs.addAll(inputItems);
 
         // Validate and apply
         if (!applicator.canApply(baseItem, allInputs)) {
-            return new ItemStack(Material.AIR);
+            return null;
         }
 
         return applyEffectToItem(player, baseItem, effect, effectsManager);
@@ -92,41 +110,30 @@ public class ApplicatorOutputButton extends Button {
 
         if (applicationResult != EffectApplicationResult.SUCCESS) {
             Logger.debug("Failed to apply effect {}: {}", effect.id(), applicationResult);
-            return new ItemStack(Material.AIR);
+            return null;
         }
 
         return result;
     }
 
-    private List<ItemStack> getInputItems(InventoryEngine inventory) {
-        return inventory.getButtons().stream()
-                .filter(button -> button instanceof ApplicatorButton.Input)
-                .flatMap(button -> button.getSlots().stream())
-                .map(slot -> inventory.getInventory().getItem(slot))
-                .filter(Objects::nonNull)
-                .toList();
+    private ItemStack getItem(Inventory contents, int slot) {
+        ItemStack item = slot < 0 ? null : contents.getItem(slot);
+        return item != null ? item : new ItemStack(Material.AIR);
     }
 
-    private ItemStack getBaseItem(InventoryEngine inventory) {
-        return getItemFromButtonType(inventory, ApplicatorButton.BaseInput.class);
-    }
-
-    private ItemStack getEffectItem(InventoryEngine inventory) {
-        return getItemFromButtonType(inventory, ApplicatorButton.EffectInput.class);
-    }
-
-    private <T extends ApplicatorButton> ItemStack getItemFromButtonType(InventoryEngine inventory, Class<T> buttonClass) {
-        return inventory.getButtons().stream()
-                .filter(buttonClass::isInstance)
-                .map(button -> {
-                    var item = inventory.getInventory().getItem(new ArrayList<>(button.getSlots()).getFirst());
-                    return item != null ? item : new ItemStack(Material.AIR);
-                })
-                .findFirst()
-                .orElse(new ItemStack(Material.AIR));
+    /**
+     * Gets the slots of the applicator buttons, resolved on the first render.
+     * The buttons of a menu never change once it is loaded, and this button belongs to a single menu.
+     */
+    private SlotLayout getLayout(InventoryEngine inventory) {
+        SlotLayout layout = this.layout;
+        if (layout == null) {
+            layout = SlotLayout.of(inventory.getButtons());
+            this.layout = layout;
+        }
+        return layout;
     }
 
-
     private void onClick(InventoryClickEvent event, InventoryEngine inventoryDefault) {
         event.setCancelled(true);
         if (!canTakeOutput(event)) {
@@ -164,16 +171,10 @@ public class ApplicatorOutputButton extends Button {
     }
 
     private void consumeInputs(InventoryEngine inventoryDefault) {
-        List<Integer> slots = new ArrayList<>();
-        for (var button : inventoryDefault.getButtons()) {
-            if (button instanceof ApplicatorButton) {
-                slots.addAll(button.getSlots());
-            }
-        }
-        slots.forEach(slot -> {
+        for (int slot : getLayout(inventoryDefault).consumed()) {
             ItemStack item = inventoryDefault.getInventory().getItem(slot);
             if (item == null) {
-                return;
+                continue;
             }
             if (item.getAmount() == 1) {
                 inventoryDefault.getInventory().setItem(slot, new ItemStack(Material.AIR));
@@ -181,6 +182,50 @@ public class ApplicatorOutputButton extends Button {
                 item.setAmount(item.getAmount() - 1);
                 inventoryDefault.getInventory().setItem(slot, item);
             }
-        });
+        }
+    }
+
+    /**
+     * Slots of the applicator buttons of a menu.
+     *
+     * @param base     the base item slot, or -1 if the menu has none
+     * @param effect   the effect item slot, or -1 if the menu has none
+     * @param inputs   the ingredient slots
+     * @param consumed every applicator slot, consumed when the output is taken
+     */
+    private record SlotLayout(int base, int effect, int[] inputs, int[] consumed) {
+
+        static SlotLayout of(Collection<? extends Button> buttons) {
+            int base = -1;
+            int effect = -1;
+            List<Integer> inputs = new ArrayList<>();
+            List<Integer> consumed = new ArrayList<>();
+            for (Button button : buttons) {
+                if (!(button instanceof ApplicatorButton)) {
+                    continue;
+                }
+                consumed.addAll(button.getSlots());
+                if (button instanceof ApplicatorButton.BaseInput) {
+                    if (base < 0) {
+                        base = firstSlot(button);
+                    }
+                } else if (button instanceof ApplicatorButton.EffectInput) {
+                    if (effect < 0) {
+                        effect = firstSlot(button);
+                    }
+                } else {
+                    inputs.addAll(button.getSlots());
+                }
+            }
+            return new SlotLayout(base, effect, toArray(inputs), toArray(consumed));
+        }
+
+        private static int firstSlot(Button button) {
+            return button.getSlots().isEmpty() ? -1 : button.getSlots().iterator().next();
+        }
+
+        private static int[] toArray(List<Integer> slots) {
+            return slots.stream().mapToInt(Integer::intValue).toArray();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+package fr.traqueur.items.effects;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-viewer memo of the last effect application result previewed by a player.
+ * <p>
+ * The applicator menu re-renders its output and the smithing table fires {@code PrepareSmithingEvent}
+ * on every item movement, and both used to validate the inputs and apply the effect to a copy of the
+ * base item each time. The inputs of the last computation are kept with its result, and the result is
+ * reused as long as the player's inputs are equal to them. Inputs are only copied when they changed.
+ * <p>
+ * Memos are dropped when the player quits and cleared on reload.
+ */
+public class ApplicationResults implements Listener {
+
+    private static final ApplicationResults INSTANCE = new ApplicationResults();
+
+    public static ApplicationResults get() {
+        return INSTANCE;
+    }
+
+    /** Last computation of each viewer, per station */
+    private final Map<Key, Entry> entries;
+
+    private ApplicationResults() {
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the result of applying an effect from the given inputs, computing it only when the
+     * inputs differ from the previous call of the same player at the same station.
+     *
+     * @param player      the viewer
+     * @param station     where the effect is applied
+     * @param baseItem    the item receiving the effect
+     * @param effectItem  the effect item
+     * @param inputs      the other inputs (template or ingredients)
+     * @param computation computes the result, returning null if the effect cannot be applied
+     * @return a copy of the result, or null if the effect cannot be applied
+     */
+    public @Nullable ItemStack getResult(Player player, Station station, @Nullable ItemStack baseItem,
+                                         @Nullable ItemStack effectItem, List<ItemStack> inputs,
+                                         Supplier<ItemStack> computation) {
+        Key key = new Key(player.getUniqueId(), station);
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.matches(baseItem, effectItem, inputs)) {
+            ItemStack result = computation.get();
+            entry = new Entry(copy(baseItem), copy(effectItem), copy(inputs),
+                    result == null || result.getType() == Material.AIR ? null : result);
+            entries.put(key, entry);
+        }
+        return entry.result() == null ? null : entry.result().clone();
+    }
+
+    /**
+     * Discards every memo.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        entries.keySet().removeIf(key -> key.player().equals(uuid));
+    }
+
+    private static @Nullable ItemStack copy(@Nullable ItemStack item) {
+        return item == null ? null : item.clone();
+    }
+
+    private static List<ItemStack> copy(List<ItemStack> items) {
+        List<ItemStack> copies = new ArrayList<>(items.size());
+        for (ItemStack item : items) {
+            copies.add(copy(item));
+        }
+        return copies;
+    }
+
+    /**
+     * Where an effect is applied.
+     */
+    public enum Station {
+        APPLICATOR,
+        SMITHING_TABLE
+    }
+
+    private record Key(UUID player, Station station) {
+    }
+
+    /**
+     * Inputs of a computation and its result.
+     *
+     * @param baseItem   copy of the base item
+     * @param effectItem copy of the effect item
+     * @param inputs     copies of the other inputs
+     * @param result     the result, or null if the effect could not be applied
+     */
+    private record Entry(@Nullable ItemStack baseItem, @Nullable ItemStack effectItem,
+                         List<ItemStack> inputs, @Nullable ItemStack result) {
+
+        boolean matches(@Nullable ItemStack baseItem, @Nullable ItemStack effectItem, List<ItemStack> inputs) {
+            if (this.inputs.size() != inputs.size()) {
+                return false;
+            }
+            // Material and amount first, they are the cheapest to compare and the most likely to change
+            if (!sameTypeAndAmount(this.baseItem, baseItem) || !sameTypeAndAmount(this.effectItem, effectItem)) {
+                return false;
+            }
+            for (int i = 0; i < inputs.size(); i++) {
+                if (!sameTypeAndAmount(this.inputs.get(i), inputs.get(i))) {
+                    return false;
+                }
+            }
+            if (!Objects.equals(this.baseItem, baseItem) || !Objects.equals(this.effectItem, effectItem)) {
+                return false;
+            }
+            for (int i = 0; i < inputs.size(); i++) {
+                if (!Objects.equals(this.inputs.get(i), inputs.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean sameTypeAndAmount(@Nullable ItemStack stored, @Nullable ItemStack current) {
+            if (stored == null || current == null) {
+                return stored == current;
+            }
+            return stored.getType() == current.getType() && stored.getAmount() == current.getAmount();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package fr.traqueur.items.effects;
+
+import fr.traqueur.items.api.Logger;
+import fr.traqueur.items.api.effects.Effect;
+import fr.traqueur.items.api.effects.EffectContext;
+import fr.traqueur.items.api.effects.EffectHandler;
+import fr.traqueur.items.api.effects.EffectSettings;
+import fr.traqueur.items.api.effects.HandlerDescriptor;
+import fr.traqueur.items.api.registries.EffectsRegistry;
+import fr.traqueur.items.api.registries.HandlersRegistry;
+import org.bukkit.event.Event;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-compiled execution plan for a given list of effect IDs.
+ * <p>
+ * A pipeline is built once per distinct effect-id list found on items and reused
+ * by the {@link ZEffectsDispatcher} for every subsequent dispatch:
+ * <ul>
+ *   <li>Effects and handlers are resolved once from their registries</li>
+ *   <li>Settings types are validated once, mismatches are dropped at compile time</li>
+ *   <li>Steps are sorted once by priority (highest first)</li>
+ *   <li>Applicable steps are bucketed lazily per concrete event class using the
+ *       {@link HandlersRegistry} event index</li>
+ * </ul>
+ * Pipelines are immutable snapshots of the registries at compile time and must be
+ * discarded when the effects or handlers registries are reloaded.
+ */
+final class EffectPipeline {
+
+    private static final Step[] EMPTY = new Step[0];
+
+    private final HandlersRegistry handlersRegistry;
+    private final Step[] steps;
+    private final Step[] noEventSteps;
+    private final Map<Class<? extends Event>, Step[]> buckets;
+
+    private EffectPipeline(HandlersRegistry handlersRegistry, Step[] steps) {
+        this.handlersRegistry = handlersRegistry;
+        this.steps = steps;
+        this.noEventSteps = filterNoEvent(steps);
+        this.buckets = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Compiles a pipeline for the given effect IDs.
+     *
+     * @param effectIds         the effect IDs stored on the item, in PDC order
+     * @param effectsRegistry   the registry used to resolve effects
+     * @param handlersRegistry  the registry used to resolve handlers
+     * @return the compiled pipeline
+     */
+    static EffectPipeline compile(List<String> effectIds, EffectsRegistry effectsRegistry, HandlersRegistry handlersRegistry) {
+        List<Step> steps = new ArrayList<>(effectIds.size());
+
+        for (String effectId : effectIds) {
+            Effect effect = effectsRegistry.getById(effectId);
+            if (effect == null) {
+                Logger.warning("No effect found for ID: <yellow>{}<reset>, skipping it in pipeline.", effectId);
+                continue;
+            }
+
+            HandlerDescriptor descriptor = handlersRegistry.getDescriptor(effect.type());
+            if (descriptor == null) {
+                Logger.warning("No handler found for effect ID: <yellow>{}<reset> of type {}", effect.id(), effect.type());
+                continue;
+            }
+
+            EffectSettings settings = effect.settings();
+            if (!descriptor.settingsType().isInstance(settings)) {
+                Logger.severe("Settings type mismatch for handler {}: expected {}, got {}",
+                        descriptor.handler().getClass().getSimpleName(),
+                        descriptor.settingsType().getSimpleName(),
+                        settings == null ? "null" : settings.getClass().getSimpleName());
+                continue;
+            }
+
+            steps.add(new Step(effect.id(), descriptor, settings));
+        }
+
+        // Stable sort, so effects with equal priority keep their PDC order
+        steps.sort(Comparator.comparingInt((Step step) -> step.descriptor().priority()).reversed());
+
+        return new EffectPipeline(handlersRegistry, steps.toArray(EMPTY));
+    }
+
+    /**
+     * Gets the steps applicable to the given event, in execution order.
+     *
+     * @param event the event being dispatched, or null for NoEvent effects
+     * @return the applicable steps (never null, possibly empty)
+     */
+    Step[] stepsFor(Event event) {
+        if (event == null) {
+            return noEventSteps;
+        }
+        return buckets.computeIfAbsent(event.getClass(), eventClass -> filter(steps, handlersRegistry.getHandlersFor(eventClass)));
+    }
+
+    /**
+     * Gets the number of effects resolved in this pipeline.
+     *
+     * @return the number of compiled steps
+     */
+    int size() {
+        return steps.length;
+    }
+
+    private static Step[] filter(Step[] steps, List<EffectHandler<?>> applicableHandlers) {
+        if (applicableHandlers.isEmpty()) {
+            return EMPTY;
+        }
+        List<Step> applicable = new ArrayList<>(steps.length);
+        for (Step step : steps) {
+            if (applicableHandlers.contains(step.handler())) {
+                applicable.add(step);
+            }
+        }
+        return applicable.isEmpty() ? EMPTY : applicable.toArray(EMPTY);
+    }
+
+    private static Step[] filterNoEvent(Step[] steps) {
+        List<Step> applicable = new ArrayList<>(steps.length);
+        for (Step step : steps) {
+            if (step.descriptor().noEvent()) {
+                applicable.add(step);
+            }
+        }
+        return applicable.isEmpty() ? EMPTY : applicable.toArray(EMPTY);
+    }
+
+    /**
+     * A single resolved effect in the pipeline.
+     *
+     * @param effectId   the ID of the effect
+     * @param descriptor the descriptor of the handler to execute
+     * @param settings   the settings, already validated against {@link HandlerDescriptor#settingsType()}
+     */
+    record Step(String effectId, HandlerDescriptor descriptor, EffectSettings settings) {
+
+        EffectHandler<?> handler() {
+            return descriptor.handler();
+        }
+
+        @SuppressWarnings("unchecked")
+        void execute(EffectContext context) {
+            ((EffectHandler<EffectSettings>) handler()).handle(context, settings);
+        }
+    }
+}
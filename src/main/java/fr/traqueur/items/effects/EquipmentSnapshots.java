@@ -0,0 +1,192 @@
+package fr.traqueur.items.effects;
+
+import fr.traqueur.items.api.PlatformType;
+import fr.traqueur.items.utils.ItemInspector;
+import io.papermc.paper.event.entity.EntityEquipmentChangedEvent;
+import org.bukkit.Material;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.*;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player cache of the zItems data carried by equipped items.
+ * <p>
+ * Every dispatched event used to read the effect IDs from the item held by the player, although
+ * the held item rarely changes between two events. The first read of a slot is kept as a snapshot
+ * and reused until something can change the equipment:
+ * <ul>
+ *   <li>held slot changes, hand swaps, inventory clicks and drags, drops, pickups, item breaks and deaths</li>
+ *   <li>equipment changes detected by the server on Paper ({@link EntityEquipmentChangedEvent})</li>
+ *   <li>zItems mutating the item itself, see {@link #invalidate(Player)}</li>
+ * </ul>
+ * A snapshot also records the material it was taken from and is discarded when the item in the
+ * slot no longer matches it, which covers swaps the events above cannot see.
+ * Snapshots are dropped when the player quits.
+ * <p>
+ * Snapshots are only kept on Paper. Spigot has no equipment change event, so an item replaced by
+ * another plugin with one of the same material would keep the effects of the previous one: there,
+ * every access reads the item.
+ */
+public class EquipmentSnapshots implements Listener {
+
+    private static final EquipmentSnapshots INSTANCE = new EquipmentSnapshots();
+    private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+
+    public static EquipmentSnapshots get() {
+        return INSTANCE;
+    }
+
+    /** Snapshots of each online player, indexed by equipment slot ordinal */
+    private final Map<UUID, Snapshot[]> snapshots;
+
+    private EquipmentSnapshots() {
+        this.snapshots = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the snapshot of the item in a player's equipment slot, taking it on first access.
+     *
+     * @param player the player
+     * @param slot   the slot holding the item
+     * @param item   the item currently in the slot
+     * @return the snapshot of the item
+     */
+    public Snapshot getSnapshot(Player player, EquipmentSlot slot, @Nullable ItemStack item) {
+        Material type = item == null ? Material.AIR : item.getType();
+        if (!PlatformType.isPaper()) {
+            return takeSnapshot(type, item);
+        }
+        Snapshot[] playerSnapshots = snapshots.computeIfAbsent(player.getUniqueId(), uuid -> new Snapshot[SLOTS.length]);
+
+        Snapshot snapshot = playerSnapshots[slot.ordinal()];
+        if (snapshot != null && snapshot.type() == type) {
+            return snapshot;
+        }
+
+        snapshot = takeSnapshot(type, item);
+        playerSnapshots[slot.ordinal()] = snapshot;
+        return snapshot;
+    }
+
+    private Snapshot takeSnapshot(Material type, @Nullable ItemStack item) {
+        List<String> effectIds = ItemInspector.getEffectIds(item);
+        return new Snapshot(type, ItemInspector.getItemId(item), effectIds == null ? null : List.copyOf(effectIds));
+    }
+
+    /**
+     * Discards the snapshots of a player. Must be called whenever an equipped item of the player is modified.
+     *
+     * @param player the player
+     */
+    public void invalidate(Player player) {
+        Snapshot[] playerSnapshots = snapshots.get(player.getUniqueId());
+        if (playerSnapshots != null) {
+            Arrays.fill(playerSnapshots, null);
+        }
+    }
+
+    /**
+     * Discards every snapshot.
+     */
+    public void clear() {
+        snapshots.clear();
+    }
+
+    private void invalidate(HumanEntity entity) {
+        if (entity instanceof Player player) {
+            invalidate(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClick(InventoryClickEvent event) {
+        invalidate(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        invalidate(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDrop(PlayerDropItemEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            invalidate(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        invalidate(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        snapshots.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Creates the listener for equipment changes detected by the server. Paper only.
+     *
+     * @return the listener
+     */
+    public Listener paperListener() {
+        return new PaperListener();
+    }
+
+    /**
+     * The zItems data of an equipped item.
+     *
+     * @param type      the material of the item the snapshot was taken from
+     * @param itemId    the custom item ID, or null if the item is not a custom item
+     * @param effectIds the effect IDs, or null if the item has no effects
+     */
+    public record Snapshot(Material type, @Nullable String itemId, @Nullable List<String> effectIds) {
+    }
+
+    private final class PaperListener implements Listener {
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onEquipmentChanged(EntityEquipmentChangedEvent event) {
+            if (event.getEntity() instanceof Player player) {
+                invalidate(player);
+            }
+        }
+    }
+}
@@ -3,11 +3,13 @@ package fr.traqueur.items.effects;
 import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.effects.*;
 import fr.traqueur.items.api.effects.EffectHandler;
+import fr.traqueur.items.api.registries.EffectsRegistry;
 import fr.traqueur.items.api.registries.HandlersRegistry;
 import fr.traqueur.items.api.registries.Registry;
-import fr.traqueur.items.serialization.Keys;
+import fr.traqueur.items.utils.ItemInspector;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
@@ -15,6 +17,12 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class ZEffectsDispatcher implements EffectsDispatcher {
 
+    /**
+     * Compiled pipelines keyed by the effect-id list stored on items.
+     * Cleared whenever the effects or handlers registries are reloaded.
+     */
+    private final Map<List<String>, EffectPipeline> pipelines = new ConcurrentHashMap<>();
+
     @Override
     public EffectContext applyNoEventEffects(Player player, ItemStack itemSource) {
         return dispatch(player, itemSource, null);
@@ -29,35 +37,52 @@ public class ZEffectsDispatcher implements EffectsDispatcher {
                 new HashSet<>(), // affectedBlocks
                 new ArrayList<>() // drops
         );
-        EffectHandler<?> handler = Registry.get(HandlersRegistry.class).getById(effect.type());
-        if (handler != null) {
-            // Only execute if this is a NoEventHandler (canApply returns true for null event)
-            if (!handler.canApply(null)) {
+        HandlerDescriptor descriptor = Registry.get(HandlersRegistry.class).getDescriptor(effect.type());
+        if (descriptor != null) {
+            // Only execute if this is a NoEventHandler
+            if (!descriptor.noEvent()) {
                 Logger.debug("Handler {} is not a NoEventHandler, skipping",
-                        handler.getClass().getSimpleName());
+                        descriptor.handler().getClass().getSimpleName());
                 return;
             }
             try {
-                executeHandler(handler, context, effect.settings());
+                executeHandler(descriptor, context, effect.settings());
             } catch (Exception e) {
                 Logger.severe("Error executing handler <red>{}<reset> for effect <yellow>{}",
-                        e, handler.getClass().getSimpleName(), effect.id());
+                        e, descriptor.handler().getClass().getSimpleName(), effect.id());
             }
         }
     }
 
     @Override
     public EffectContext dispatch(Player player, ItemStack itemSource, Event event) {
-        // 1. Retrieve effects from the item's PDC
-        List<Effect> effects = Keys.EFFECTS.get(itemSource.getItemMeta().getPersistentDataContainer(), new ArrayList<>());
-        if (effects == null || effects.isEmpty()) {
+        return dispatch(player, itemSource, event, null);
+    }
+
+    @Override
+    public EffectContext dispatch(Player player, ItemStack itemSource, Event event, EquipmentSlot slot) {
+        HandlersRegistry handlersRegistry = Registry.get(HandlersRegistry.class);
+
+        // 0. Skip events that no registered handler responds to, before touching the item
+        if (event != null && handlersRegistry.getHandlersFor(event.getClass()).isEmpty()) {
+            return null;
+        }
+
+        // 1. Retrieve the effect IDs from the equipment snapshot, or from the item's PDC (no meta clone)
+        List<String> effectIds = slot != null && player != null
+                ? EquipmentSnapshots.get().getSnapshot(player, slot, itemSource).effectIds()
+                : ItemInspector.getEffectIds(itemSource);
+        if (effectIds == null) {
             return null; // No effects to process
         }
 
+        // 2. Resolve the compiled pipeline for this effect list
+        EffectPipeline pipeline = getPipeline(effectIds, handlersRegistry);
+
         Logger.debug("Dispatching {} effect(s) for event <aqua>{}<reset>",
-                effects.size(), event != null ? event.getEventName() : "NoEvent");
+                pipeline.size(), event != null ? event.getEventName() : "NoEvent");
 
-        // 2. Create the shared context
+        // 3. Create the shared context
         EffectContext context = new EffectContext(
                 player,
                 itemSource,
@@ -66,108 +91,79 @@ public class ZEffectsDispatcher implements EffectsDispatcher {
                 new ArrayList<>() // drops
         );
 
-        // 3. Collect all applicable handlers
-        List<HandlerExecution> executions = collectApplicableHandlers(effects, event);
-        if (executions.isEmpty()) {
+        // 4. Get the applicable handlers, already sorted by priority
+        EffectPipeline.Step[] steps = pipeline.stepsFor(event);
+        if (steps.length == 0) {
             Logger.debug("No applicable handlers found for event {}",
                     event != null ? event.getEventName() : "NoEvent");
             return context;
         }
 
-        // 4. Sort handlers by priority (descending order - highest priority first)
-        executions.sort(Comparator.comparingInt((HandlerExecution e) -> e.handler.priority()).reversed());
-
-        Logger.debug("Executing {} handler(s) in priority order", executions.size());
+        Logger.debug("Executing {} handler(s) in priority order", steps.length);
 
         // 5. Execute the pipeline
-        for (HandlerExecution execution : executions) {
+        for (EffectPipeline.Step step : steps) {
             try {
-                executeHandler(execution.handler, context, execution.settings);
+                step.execute(context);
             } catch (Exception e) {
                 Logger.severe("Error executing handler <red>{}<reset> for effect <yellow>{}<reset>: {}",
-                        e, execution.handler.getClass().getSimpleName(), execution.effectId);
+                        e, step.handler().getClass().getSimpleName(), step.effectId());
             }
         }
 
         return context;
     }
 
+    @Override
+    public void invalidateCache() {
+        int size = this.pipelines.size();
+        this.pipelines.clear();
+        Logger.debug("Invalidated {} compiled effect pipeline(s)", size);
+    }
+
     /**
-     * Collects all handlers that are applicable to the given event.
-     * <p>
-     * A handler is applicable if:
-     * <ul>
-     *   <li>A handler exists for the effect ID</li>
-     *   <li>The handler's {@link EffectHandler#canApply(Event)} returns true</li>
-     * </ul>
+     * Gets the compiled pipeline for the given effect IDs, compiling it on first use.
      *
-     * @param effects the list of effects from the item
-     * @param event   the event to check applicability against
-     * @return a list of handler executions
+     * @param effectIds        the effect IDs read from the item's PDC
+     * @param handlersRegistry the registry used to resolve handlers
+     * @return the compiled pipeline
      */
-    private List<HandlerExecution> collectApplicableHandlers(List<Effect> effects, Event event) {
-        List<HandlerExecution> executions = new ArrayList<>();
-
-        for (Effect effect : effects) {
-            // Get the handler for this effect
-            EffectHandler<?> handler = Registry.get(HandlersRegistry.class).getById(effect.type());
-
-            if (handler == null) {
-                Logger.warning("No handler found for effect ID: <yellow>{}<reset> of type {}", effect.id(), effect.type());
-                continue;
-            }
-
-            // Check if the handler can apply to this event
-            if (!handler.canApply(event)) {
-                Logger.debug("Handler {} cannot apply to event {}",
-                        handler.getClass().getSimpleName(), event != null ? event.getEventName() : "NoEvent");
-                continue;
-            }
-
-            executions.add(new HandlerExecution(effect.id(), handler, effect.settings()));
+    private EffectPipeline getPipeline(List<String> effectIds, HandlersRegistry handlersRegistry) {
+        EffectPipeline pipeline = this.pipelines.get(effectIds);
+        if (pipeline != null) {
+            return pipeline;
         }
-
-        return executions;
+        return this.pipelines.computeIfAbsent(List.copyOf(effectIds), ids -> EffectPipeline.compile(
+                ids,
+                Registry.get(EffectsRegistry.class),
+                handlersRegistry
+        ));
     }
 
     /**
      * Executes a single handler with type-safe settings.
      *
-     * @param handler  the handler to execute
-     * @param context  the shared context
-     * @param settings the settings for this effect
-     * @param <T>      the settings type
+     * @param descriptor the descriptor of the handler to execute
+     * @param context    the shared context
+     * @param settings   the settings for this effect
      */
-    private <T extends EffectSettings> void executeHandler(
-            EffectHandler<T> handler,
+    @SuppressWarnings("unchecked")
+    private void executeHandler(
+            HandlerDescriptor descriptor,
             EffectContext context,
             EffectSettings settings) {
 
         Logger.debug("Executing handler: <aqua>{}<reset> [priority={}]",
-                handler.getClass().getSimpleName(), handler.priority());
+                descriptor.handler().getClass().getSimpleName(), descriptor.priority());
 
-        if (!handler.settingsType().isInstance(settings)) {
+        if (!descriptor.settingsType().isInstance(settings)) {
             Logger.severe("Settings type mismatch for handler {}: expected {}, got {}",
-                    handler.getClass().getSimpleName(),
-                    handler.settingsType().getSimpleName(),
+                    descriptor.handler().getClass().getSimpleName(),
+                    descriptor.settingsType().getSimpleName(),
                     settings.getClass().getSimpleName());
             return;
         }
 
-        handler.handle(context, handler.settingsType().cast(settings));
-    }
-
-    /**
-     * Internal record to hold handler execution data.
-     *
-     * @param effectId the ID of the effect
-     * @param handler  the handler to execute
-     * @param settings the settings for this execution
-     */
-    private record HandlerExecution(
-            String effectId,
-            EffectHandler<?> handler,
-            EffectSettings settings
-    ) {
+        ((EffectHandler<EffectSettings>) descriptor.handler()).handle(context, settings);
     }
 }
\ No newline at end of file
@@ -4,21 +4,26 @@ import fr.traqueur.items.Messages;
 import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.effects.Effect;
 import fr.traqueur.items.api.effects.EffectApplicationResult;
-import fr.traqueur.items.api.effects.EffectHandler;
 import fr.traqueur.items.api.effects.EffectRepresentation;
+import fr.traqueur.items.api.effects.HandlerDescriptor;
 import fr.traqueur.items.api.items.Item;
 import fr.traqueur.items.api.managers.EffectsManager;
-import fr.traqueur.items.api.managers.ItemsManager;
-import fr.traqueur.items.api.placeholders.PlaceholderParser;
 import fr.traqueur.items.api.registries.EffectsRegistry;
 import fr.traqueur.items.api.registries.HandlersRegistry;
+import fr.traqueur.items.api.registries.ItemsRegistry;
 import fr.traqueur.items.api.registries.Registry;
 import fr.traqueur.items.api.settings.ItemSettings;
 import fr.traqueur.items.api.settings.Settings;
+import fr.traqueur.items.api.settings.models.IngredientWrapper;
+import fr.traqueur.items.api.settings.models.ItemStackWrapper;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import fr.traqueur.items.api.utils.ItemUtil;
 import fr.traqueur.items.api.utils.MessageUtil;
+import fr.traqueur.items.api.utils.TextTemplate;
+import fr.traqueur.items.hooks.recipes.MaterialsIngredient;
 import fr.traqueur.items.serialization.Keys;
 import fr.traqueur.items.settings.PluginSettings;
+import fr.traqueur.items.utils.ItemInspector;
 import fr.traqueur.recipes.api.RecipeType;
 import fr.traqueur.recipes.impl.domains.ItemRecipe;
 import fr.traqueur.recipes.impl.domains.ingredients.StrictItemStackIngredient;
@@ -40,29 +45,65 @@ public class ZEffectsManager implements EffectsManager {
 
     private static final PlainTextComponentSerializer PLAIN_TEXT_SERIALIZER = PlainTextComponentSerializer.plainText();
 
-    private final List<ItemRecipe> recipes;
+    /** Smithing recipe registered for each effect, keyed by effect ID */
+    private final Map<String, SmithingRecipe> recipes;
 
     public ZEffectsManager() {
-        this.recipes = new ArrayList<>();
+        this.recipes = new HashMap<>();
     }
 
+    /**
+     * Registers one smithing recipe per effect applied at the smithing table.
+     * <p>
+     * On reload only the delta is applied: recipes of removed effects are unregistered, recipes whose
+     * definition changed are replaced, and unchanged recipes stay registered.
+     */
     @Override
     public void loadRecipes() {
-        for (ItemRecipe recipe : recipes) {
-            this.getPlugin().getRecipesManager().removeRecipe(recipe);
-        }
+        Map<String, SmithingRecipe.Definition> definitions = new HashMap<>();
         for (Effect effect : Registry.get(EffectsRegistry.class).getAll()) {
             if (effect.representation() != null) {
                 if (effect.representation().applicatorType() == EffectRepresentation.ApplicatorType.SMITHING_TABLE) {
-                    createSmithingCraft(effect);
+                    SmithingRecipe.Definition definition = smithingDefinition(effect);
+                    if (definition != null) {
+                        definitions.put(effect.id(), definition);
+                    }
                 }
             }
         }
+
+        int removed = 0;
+        Iterator<Map.Entry<String, SmithingRecipe>> iterator = this.recipes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, SmithingRecipe> entry = iterator.next();
+            if (!entry.getValue().definition().equals(definitions.get(entry.getKey()))) {
+                this.getPlugin().getRecipesManager().removeRecipe(entry.getValue().recipe());
+                iterator.remove();
+                removed++;
+            }
+        }
+
+        int added = 0;
+        for (Map.Entry<String, SmithingRecipe.Definition> entry : definitions.entrySet()) {
+            if (!this.recipes.containsKey(entry.getKey())) {
+                Effect effect = Registry.get(EffectsRegistry.class).getById(entry.getKey());
+                this.recipes.put(entry.getKey(), createSmithingCraft(effect, entry.getValue()));
+                added++;
+            }
+        }
+
+        Logger.debug("Smithing recipes: <gold>{}<reset> registered, <gold>{}<reset> added, <gold>{}<reset> removed.",
+                this.recipes.size(), added, removed);
     }
 
-    private void createSmithingCraft(Effect effect) {
-        EffectRepresentation representation = effect.representation();
-        Set<Material> materials = new HashSet<>();
+    /**
+     * Gets what defines the smithing recipe of an effect, to detect changes on reload.
+     *
+     * @param effect the effect
+     * @return the definition, or null if the effect applies to no material
+     */
+    private SmithingRecipe.Definition smithingDefinition(Effect effect) {
+        Set<Material> materials = EnumSet.noneOf(Material.class);
         List<Material> effectsMat = effect.settings().applicableMaterials();
         if(effectsMat != null && !effectsMat.isEmpty()) {
             materials.addAll(effectsMat);
@@ -71,21 +112,37 @@ public class ZEffectsManager implements EffectsManager {
         if(effectsTags != null && !effectsTags.isEmpty()) {
             effectsTags.forEach(tag -> materials.addAll(tag.getValues()));
         }
+        materials.removeIf(material -> material.isAir() || !material.isItem());
+        if (materials.isEmpty()) {
+            return null;
+        }
+        EffectRepresentation representation = effect.representation();
+        return new SmithingRecipe.Definition(Set.copyOf(materials), representation.template(), representation.item());
+    }
 
-        materials.forEach(material -> {
-            ItemStack result = new ItemStack(material);
-            this.applyEffect(null, result, effect);
-            ItemRecipe recipe = new RecipeBuilder().setType(RecipeType.SMITHING_TRANSFORM)
-                    .addIngredient(representation.getTemplateIngredient())
-                    .addIngredient(material)
-                    .addIngredient(new StrictItemStackIngredient(representation.item().build(null)))
-                    .setResult(result)
-                    .setAmount(1)
-                    .setName("effect" + effect.id() + "_" + material.name().toLowerCase()).build();
-            this.recipes.add(recipe);
-            this.getPlugin().getRecipesManager().addRecipe(recipe);
-            Logger.debug("Registered smithing recipe for effect {} with material {}", effect.id(), material.name());
-        });
+    /**
+     * Registers the smithing recipe of an effect.
+     * <p>
+     * A single recipe accepts every applicable material as base. Its result is only a placeholder:
+     * the real result depends on the base item and is computed by the smithing table listener.
+     *
+     * @param effect     the effect
+     * @param definition the recipe definition
+     * @return the registered recipe
+     */
+    private SmithingRecipe createSmithingCraft(Effect effect, SmithingRecipe.Definition definition) {
+        EffectRepresentation representation = effect.representation();
+        Set<Material> materials = definition.materials();
+        ItemRecipe recipe = new RecipeBuilder().setType(RecipeType.SMITHING_TRANSFORM)
+                .addIngredient(representation.getTemplateIngredient())
+                .addIngredient(new MaterialsIngredient(materials, null))
+                .addIngredient(new StrictItemStackIngredient(representation.item().build(null)))
+                .setResult(new ItemStack(Collections.min(materials)))
+                .setAmount(1)
+                .setName("effect" + effect.id()).build();
+        this.getPlugin().getRecipesManager().addRecipe(recipe);
+        Logger.debug("Registered smithing recipe for effect {} with {} material(s)", effect.id(), materials.size());
+        return new SmithingRecipe(definition, recipe);
     }
 
     @Override
@@ -103,22 +160,24 @@ public class ZEffectsManager implements EffectsManager {
      * @return the result of the effect application
      */
     private EffectApplicationResult applyEffect(Player player, ItemStack item, Effect effect, boolean updateLore) {
-        // Get all existing effects from the item
-        List<Effect> existingEffects = Keys.EFFECTS.get(
-                item.getItemMeta().getPersistentDataContainer(),
-                new ArrayList<>()
-        );
+        // Read, validate and write the item meta once
+        try (ItemMetaTransaction transaction = ItemUtil.openMeta(item)) {
+            ItemMeta meta = transaction.read();
+            if (meta == null) {
+                return EffectApplicationResult.NOT_ALLOWED;
+            }
 
-        // Check if effect is already present
-        if (existingEffects.stream().anyMatch(e -> e.id().equals(effect.id()))) {
-            Logger.debug("Effect {} is already present on the item", effect.id());
-            return EffectApplicationResult.ALREADY_PRESENT;
-        }
+            // Get all existing effects from the item
+            List<Effect> existingEffects = Keys.EFFECTS.get(meta.getPersistentDataContainer(), new ArrayList<>());
+
+            // Check if effect is already present
+            if (existingEffects.stream().anyMatch(e -> e.id().equals(effect.id()))) {
+                Logger.debug("Effect {} is already present on the item", effect.id());
+                return EffectApplicationResult.ALREADY_PRESENT;
+            }
 
-        // Check if this is a custom item and validate restrictions
-        ItemsManager itemsManager = this.getPlugin().getManager(ItemsManager.class);
-        if (itemsManager != null) {
-            Optional<Item> customItem = itemsManager.getCustomItem(item);
+            // Check if this is a custom item and validate restrictions
+            Optional<Item> customItem = getCustomItem(meta);
             if (customItem.isPresent()) {
                 Item customItemInstance = customItem.get();
 
@@ -137,86 +196,81 @@ public class ZEffectsManager implements EffectsManager {
                     return EffectApplicationResult.DISABLED;
                 }
             }
-        }
 
-        // Validate incompatibilities before applying
-        EffectApplicationResult compatibilityResult = validateCompatibility(item, effect);
-        if (compatibilityResult != EffectApplicationResult.SUCCESS) {
-            Logger.debug("Cannot apply effect {} to item: {}", effect.type(), compatibilityResult);
-            return compatibilityResult;
-        }
+            // Validate incompatibilities before applying
+            EffectApplicationResult compatibilityResult = validateCompatibility(existingEffects, effect);
+            if (compatibilityResult != EffectApplicationResult.SUCCESS) {
+                Logger.debug("Cannot apply effect {} to item: {}", effect.type(), compatibilityResult);
+                return compatibilityResult;
+            }
 
-        ItemMeta meta = item.getItemMeta();
-        if (meta != null) {
-            PersistentDataContainer container = meta.getPersistentDataContainer();
-            List<Effect> effects = new ArrayList<>(Keys.EFFECTS.get(container, new ArrayList<>()));
-            effects.add(effect);
-            Keys.EFFECTS.set(container, effects);
-            item.setItemMeta(meta);
-        }
+            List<Effect> allEffects = new ArrayList<>(existingEffects);
+            allEffects.add(effect);
+            Keys.EFFECTS.set(transaction.container(), allEffects);
 
-        this.getPlugin().getDispatcher().applyNoEventEffect(player, item, effect);
+            // NoEvent handlers edit the stack itself, so the pending meta is committed first
+            this.getPlugin().getDispatcher().applyNoEventEffect(player, transaction.itemStack(), effect);
 
-        // Update item lore to show the new effect (only if requested)
-        if (updateLore) {
-            List<Effect> allEffects = Keys.EFFECTS.get(
-                    item.getItemMeta().getPersistentDataContainer(),
-                    new ArrayList<>()
-            );
-            updateItemLoreWithEffects(player, item, allEffects);
+            // Update item lore to show the new effect (only if requested)
+            if (updateLore) {
+                updateItemLoreWithEffects(player, transaction, allEffects);
+            }
         }
 
+        // The item may be equipped, its snapshot no longer matches
+        if (player != null) {
+            EquipmentSnapshots.get().invalidate(player);
+        }
         return EffectApplicationResult.SUCCESS;
     }
 
+    /**
+     * Gets the custom item definition matching an item meta.
+     *
+     * @param meta the item meta
+     * @return the custom item, or empty if the meta does not belong to a custom item
+     */
+    private Optional<Item> getCustomItem(ItemMeta meta) {
+        ItemsRegistry registry = Registry.get(ItemsRegistry.class);
+        if (registry == null) {
+            return Optional.empty();
+        }
+        return Keys.ITEM_ID.get(meta.getPersistentDataContainer()).map(registry::getById);
+    }
+
     /**
      * Validates that the new effect is compatible with all existing effects on the item.
      * Checks bidirectional incompatibilities.
      *
-     * @param item the item to check
+     * @param existingEffects the effects already on the item
      * @param newEffect the effect to be applied
      * @return EffectApplicationResult indicating compatibility status
      */
-    private EffectApplicationResult validateCompatibility(ItemStack item, Effect newEffect) {
-        // Get the handler for the new effect
+    private EffectApplicationResult validateCompatibility(List<Effect> existingEffects, Effect newEffect) {
+        // Get the handler descriptor for the new effect
         HandlersRegistry registry = Registry.get(HandlersRegistry.class);
-        EffectHandler<?> newHandler = registry.getById(newEffect.type());
+        HandlerDescriptor newHandler = registry.getDescriptor(newEffect.type());
         if (newHandler == null) {
             Logger.warning("Handler not found for effect type: {}", newEffect.type());
             return EffectApplicationResult.HANDLER_NOT_FOUND;
         }
 
-        // Get incompatible handlers for the new effect
-        Set<Class<? extends EffectHandler<?>>> newIncompatibles = newHandler.getIncompatibleHandlers();
-
-        // Get all existing effects from the item
-        List<Effect> existingEffects = Keys.EFFECTS.get(item.getItemMeta().getPersistentDataContainer(), new ArrayList<>());
-
         if (existingEffects == null || existingEffects.isEmpty()) {
             return EffectApplicationResult.SUCCESS; // No existing effects, nothing to conflict with
         }
 
-        // Check each existing effect for incompatibility
+        // Check each existing effect for incompatibility, in both directions
         for (Effect existingEffect : existingEffects) {
-            EffectHandler<?> existingHandler = registry.getById(existingEffect.type());
+            HandlerDescriptor existingHandler = registry.getDescriptor(existingEffect.type());
             if (existingHandler == null) {
                 continue;
             }
 
-            // Check if new effect is incompatible with existing effect
-            if (newIncompatibles.contains(existingHandler.getClass())) {
+            if (newHandler.isIncompatibleWith(existingHandler)) {
                 Logger.debug("Effect {} is incompatible with existing effect {}",
                         newEffect.type(), existingEffect.type());
                 return EffectApplicationResult.INCOMPATIBLE;
             }
-
-            // Check bidirectional: if existing effect is incompatible with new effect
-            Set<Class<? extends EffectHandler<?>>> existingIncompatibles = existingHandler.getIncompatibleHandlers();
-            if (existingIncompatibles.contains(newHandler.getClass())) {
-                Logger.debug("Existing effect {} is incompatible with new effect {}",
-                        existingEffect.type(), newEffect.type());
-                return EffectApplicationResult.INCOMPATIBLE;
-            }
         }
 
         return EffectApplicationResult.SUCCESS;
@@ -234,16 +288,7 @@ public class ZEffectsManager implements EffectsManager {
 
     @Override
     public boolean hasEffects(ItemStack item) {
-        if (item == null || !item.hasItemMeta()) {
-            return false;
-        }
-
-        List<Effect> effects = Keys.EFFECTS.get(
-            item.getItemMeta().getPersistentDataContainer(),
-            new ArrayList<>()
-        );
-
-        return effects != null && !effects.isEmpty();
+        return ItemInspector.hasEffects(item);
     }
 
     @Override
@@ -252,14 +297,28 @@ public class ZEffectsManager implements EffectsManager {
             return;
         }
 
-        ItemsManager itemsManager = this.getPlugin().getManager(ItemsManager.class);
-        if (itemsManager != null) {
-            Optional<Item> customItem = itemsManager.getCustomItem(item);
-            if (customItem.isPresent()) {
-                updateItemLoreForCustomItem(player, item, customItem.get(), effects);
-            } else {
-                updateVanillaItemLoreWithEffects(player, item, effects);
-            }
+        try (ItemMetaTransaction transaction = ItemUtil.openMeta(item)) {
+            updateItemLoreWithEffects(player, transaction, effects);
+        }
+    }
+
+    /**
+     * Updates the lore of an item with the given effects within a meta transaction.
+     *
+     * @param transaction the open meta transaction of the item
+     * @param effects all effects to display
+     */
+    private void updateItemLoreWithEffects(Player player, ItemMetaTransaction transaction, List<Effect> effects) {
+        ItemMeta meta = transaction.read();
+        if (meta == null) {
+            return;
+        }
+
+        Optional<Item> customItem = getCustomItem(meta);
+        if (customItem.isPresent()) {
+            updateItemLoreForCustomItem(player, transaction, customItem.get(), effects);
+        } else {
+            updateVanillaItemLoreWithEffects(player, transaction, effects);
         }
     }
 
@@ -277,11 +336,11 @@ public class ZEffectsManager implements EffectsManager {
     /**
      * Updates the item's lore for a custom item with the given effects.
      *
-     * @param item the item to update
+     * @param transaction the open meta transaction of the item
      * @param customItem the custom item definition
      * @param allEffects all effects to display
      */
-    private void updateItemLoreForCustomItem(Player player, ItemStack item, Item customItem, List<Effect> allEffects) {
+    private void updateItemLoreForCustomItem(Player player, ItemMetaTransaction transaction, Item customItem, List<Effect> allEffects) {
         // Separate base effects and additional effects
         List<Effect> baseEffects = customItem.settings().effects() != null
                 ? customItem.settings().effects()
@@ -306,12 +365,12 @@ public class ZEffectsManager implements EffectsManager {
         // Combine base lore with effect lore
         List<Component> combinedLore = new ArrayList<>();
         if (customItem.settings().baseItem().lore() != null) {
-            combinedLore.addAll(customItem.settings().baseItem().lore().stream().map(str -> MessageUtil.parseMessage(PlaceholderParser.parsePlaceholders(player, str))).toList());
+            combinedLore.addAll(customItem.settings().baseItem().lore().stream().map(str -> TextTemplate.compile(str).render(player)).toList());
         }
         combinedLore.addAll(effectLoreLines);
 
         // Update item lore
-        ItemUtil.setLore(item, combinedLore);
+        transaction.lore(combinedLore);
 
         Logger.debug("Updated item lore for {} with {} total effects",
                 customItem.id(), allEffects.size());
@@ -320,10 +379,10 @@ public class ZEffectsManager implements EffectsManager {
     /**
      * Updates the lore of a vanilla item with the given effects.
      *
-     * @param item the vanilla item to update
+     * @param transaction the open meta transaction of the vanilla item
      * @param allEffects all effects to display
      */
-    private void updateVanillaItemLoreWithEffects(Player player, ItemStack item, List<Effect> allEffects) {
+    private void updateVanillaItemLoreWithEffects(Player player, ItemMetaTransaction transaction, List<Effect> allEffects) {
         if (allEffects.isEmpty()) {
             return; // No effects to display
         }
@@ -332,7 +391,7 @@ public class ZEffectsManager implements EffectsManager {
         String titlePlain = PLAIN_TEXT_SERIALIZER.serialize(MessageUtil.MINI_MESSAGE.deserialize(Messages.EFFECTS_LORE_TITLE.get())).trim();
 
         // Get existing lore (if any)
-        List<Component> existingLore = ItemUtil.getLore(item);
+        List<Component> existingLore = transaction.lore();
         if (existingLore == null) {
             existingLore = new ArrayList<>();
         } else {
@@ -370,7 +429,7 @@ public class ZEffectsManager implements EffectsManager {
         combinedLore.addAll(effectLoreLines);
 
         // Apply back to the item
-        ItemUtil.setLore(item, combinedLore);
+        transaction.lore(combinedLore);
 
         Logger.debug("Updated vanilla item lore with {} effects", allEffects.size());
     }
@@ -464,20 +523,20 @@ public class ZEffectsManager implements EffectsManager {
         }
 
         // Add header (empty line) - only if not empty
-        Component headerComponent = MessageUtil.parseMessage(PlaceholderParser.parsePlaceholders(player, Messages.EFFECTS_LORE_HEADER.get()));
+        Component headerComponent = TextTemplate.compile(Messages.EFFECTS_LORE_HEADER.get()).render(player);
         if (!headerComponent.equals(Component.empty())) {
             loreLines.add(headerComponent);
         }
 
         // Add title ("Effects")
-        loreLines.add(MessageUtil.parseMessage(PlaceholderParser.parsePlaceholders(player, Messages.EFFECTS_LORE_TITLE.get())));
+        loreLines.add(TextTemplate.compile(Messages.EFFECTS_LORE_TITLE.get()).render(player));
 
         // Add effect lines
         int effectsToShow = nbEffectsView == -1 ? visibleEffects.size() : Math.min(nbEffectsView, visibleEffects.size());
 
         for (int i = 0; i < effectsToShow; i++) {
             Effect effect = visibleEffects.get(i);
-            Component effectLine = MessageUtil.parseMessage(PlaceholderParser.parsePlaceholders(player, Messages.EFFECTS_LORE_LINE.get()), Placeholder.component("effect", effect.displayName()));
+            Component effectLine = TextTemplate.compile(Messages.EFFECTS_LORE_LINE.get()).render(player, Placeholder.component("effect", effect.displayName()));
 
 
             loreLines.add(effectLine);
@@ -485,7 +544,7 @@ public class ZEffectsManager implements EffectsManager {
 
         // Add "And More..." if there are more effects than the limit
         if (nbEffectsView != -1 && visibleEffects.size() > nbEffectsView) {
-            loreLines.add(MessageUtil.parseMessage(PlaceholderParser.parsePlaceholders(player, Messages.EFFECTS_LORE_MORE.get())));
+            loreLines.add(TextTemplate.compile(Messages.EFFECTS_LORE_MORE.get()).render(player));
         }
 
         return loreLines;
@@ -536,4 +595,23 @@ public class ZEffectsManager implements EffectsManager {
         return item;
     }
 
+
+    /**
+     * A registered smithing recipe with the definition it was built from.
+     *
+     * @param definition the definition
+     * @param recipe     the registered recipe
+     */
+    private record SmithingRecipe(Definition definition, ItemRecipe recipe) {
+
+        /**
+         * What a smithing recipe is built from.
+         *
+         * @param materials the applicable base materials
+         * @param template  the template ingredient
+         * @param addition  the effect item
+         */
+        private record Definition(Set<Material> materials, IngredientWrapper template, ItemStackWrapper addition) {
+        }
+    }
 }
@@ -5,11 +5,17 @@ import fr.traqueur.items.api.effects.EffectContext;
 import fr.traqueur.items.api.effects.EffectHandler;
 import fr.traqueur.items.api.effects.EffectsDispatcher;
 import fr.traqueur.items.api.effects.ItemSourceExtractor;
+import fr.traqueur.items.api.registries.EffectsRegistry;
 import fr.traqueur.items.api.registries.ExtractorsRegistry;
 import fr.traqueur.items.api.registries.HandlersRegistry;
 import fr.traqueur.items.api.registries.Registry;
-import org.bukkit.Material;
-import org.bukkit.block.Block;
+import fr.traqueur.items.api.settings.Settings;
+import fr.traqueur.items.blocks.BulkBlockBreaker;
+import fr.traqueur.items.settings.PluginSettings;
+import fr.traqueur.items.utils.DropUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
 import org.bukkit.event.*;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.EventExecutor;
@@ -17,7 +23,10 @@ import org.bukkit.plugin.RegisteredListener;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.lang.reflect.Method;
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -27,7 +36,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>
  * This listener uses reflection to:
  * <ol>
- *   <li>Scan all registered handlers to find which event types they handle</li>
+ *   <li>Read the event types declared by the handlers of the effect types in use</li>
  *   <li>Dynamically register a Bukkit listener for each unique event type</li>
  *   <li>Extract the ItemStack source using the ExtractorsRegistry</li>
  *   <li>Dispatch events to the {@link ZEffectsDispatcher}</li>
@@ -38,98 +47,143 @@ import java.util.concurrent.ConcurrentHashMap;
  *   <li>No manual @EventHandler methods needed</li>
  *   <li>Automatically supports new handlers without code changes</li>
  *   <li>Single listener per event type (efficient)</li>
+ *   <li>Only event types used by a loaded effect are listened to, unused handlers cost nothing</li>
  *   <li>Extensible via custom extractors</li>
  * </ul>
  */
-public record ZEventsListener(EffectsDispatcher dispatcher) implements Listener {
+public class ZEventsListener implements Listener {
 
     private static final ConcurrentHashMap<Class<? extends Event>, Method> HANDLER_LISTS_CACHE = new ConcurrentHashMap<>();
 
+    private final EffectsDispatcher dispatcher;
+    /** Bukkit listener registered for each routed event type, only modified on the main thread */
+    private final Map<Class<? extends Event>, DynamicListener> listeners;
+    /** Event types routed to the dispatcher, replaced as a whole on refresh */
+    private volatile Set<Class<? extends Event>> activeTypes;
+    /** Whether the listeners were registered once, only modified on the main thread */
+    private boolean registered;
+
     /**
      * Creates a new dynamic events listener.
      *
      * @param dispatcher the dispatcher to send events to
      */
-    public ZEventsListener {
+    public ZEventsListener(EffectsDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.listeners = new HashMap<>();
+        this.activeTypes = Set.of();
+    }
+
+    /**
+     * Gets the dispatcher events are sent to.
+     *
+     * @return the dispatcher
+     */
+    public EffectsDispatcher dispatcher() {
+        return dispatcher;
     }
 
     /**
-     * Scans all registered handlers and automatically creates Bukkit listeners
-     * for each unique event type.
+     * Registers a Bukkit listener for each event type handled by an effect type in use,
+     * and unregisters the listeners of event types no longer in use.
+     * <p>
+     * An effect type is in use when at least one effect of the {@link EffectsRegistry} has it;
+     * items only reference registered effects, so their base effects are covered too.
+     * The new set of routed event types is published at once before the handler lists are
+     * updated, so an event is never dispatched for a type that was just dropped.
      * <p>
-     * This method should be called after all handlers have been registered
-     * in the {@link HandlersRegistry}.
+     * This method must be called on the main thread, after all handlers have been registered
+     * in the {@link HandlersRegistry}, and again whenever effects are reloaded.
      *
      * @param plugin the plugin instance to register listeners with
      */
     public void registerDynamicListeners(JavaPlugin plugin) {
         HandlersRegistry handlersRegistry = Registry.get(HandlersRegistry.class);
-        Set<Class<? extends Event>> eventTypes = collectEventTypes(handlersRegistry);
+        // Rebuild the event class index so routing reflects the handlers registered so far
+        handlersRegistry.rebuildEventIndex();
+        Set<String> usedTypes = Registry.get(EffectsRegistry.class).getUsedTypes();
+        Set<Class<? extends Event>> eventTypes = handlersRegistry.getHandledEventTypes(usedTypes);
 
-        Logger.info("Registering dynamic listeners for <gold>{}<reset> event type(s)...", eventTypes.size());
+        Logger.info("Registering dynamic listeners for <gold>{}<reset> event type(s) used by <gold>{}<reset> effect type(s) (<gold>{}<reset> declared)...",
+                eventTypes.size(), usedTypes.size(), handlersRegistry.getHandledEventTypes().size());
 
-        int registered = 0;
+        Map<Class<? extends Event>, DynamicListener> next = new HashMap<>();
         for (Class<? extends Event> eventType : eventTypes) {
-            if (registerListenerForEvent(plugin, eventType)) {
-                registered++;
+            DynamicListener listener = this.listeners.get(eventType);
+            if (listener == null) {
+                listener = createListener(plugin, eventType);
+            }
+            if (listener != null) {
+                next.put(eventType, listener);
             }
         }
 
-        Logger.info("Successfully registered <gold>{}<reset> dynamic event listener(s)", registered);
+        // Publish the new routing first, the handler lists are updated afterwards
+        this.activeTypes = Set.copyOf(next.keySet());
+
+        int removed = 0;
+        for (Map.Entry<Class<? extends Event>, DynamicListener> entry : this.listeners.entrySet()) {
+            if (!next.containsKey(entry.getKey())) {
+                entry.getValue().handlerList().unregister(entry.getValue().listener());
+                removed++;
+                Logger.debug("Unregistered dynamic listener for unused event: <aqua>{}<reset>", entry.getKey().getSimpleName());
+            }
+        }
+        int added = 0;
+        for (Map.Entry<Class<? extends Event>, DynamicListener> entry : next.entrySet()) {
+            if (!this.listeners.containsKey(entry.getKey())) {
+                entry.getValue().handlerList().register(entry.getValue().listener());
+                added++;
+                Logger.debug("Registered dynamic listener for event: <aqua>{}<reset>", entry.getKey().getSimpleName());
+            }
+        }
+        this.listeners.clear();
+        this.listeners.putAll(next);
+        this.registered = true;
+
+        Logger.info("Successfully registered <gold>{}<reset> dynamic event listener(s) (<gold>{}<reset> added, <gold>{}<reset> removed)",
+                next.size(), added, removed);
     }
 
     /**
-     * Collects all event types declared in registered handlers.
-     * <p>
-     * Scans through all handlers and extracts:
-     * <ul>
-     *   <li>{@link EffectHandler.SingleEventEffectHandler#eventType()}</li>
-     *   <li>{@link EffectHandler.MultiEventEffectHandler#eventTypes()}</li>
-     * </ul>
+     * Refreshes the listeners after an effect of a new type was registered outside of a reload,
+     * on the main thread. Does nothing until the listeners were registered once, as the enable
+     * task registers them after all effects and handlers.
      *
-     * @param handlersRegistry the registry containing all registered handlers
-     * @return a set of all unique event types
+     * @param plugin the plugin instance to register listeners with
      */
-    private Set<Class<? extends Event>> collectEventTypes(HandlersRegistry handlersRegistry) {
-        Set<Class<? extends Event>> eventTypes = new HashSet<>();
-
-        for (EffectHandler<?> handler : handlersRegistry.getAll()) {
-            switch (handler) {
-                case EffectHandler.SingleEventEffectHandler<?, ?> single -> eventTypes.add(single.eventType());
-
-                case EffectHandler.MultiEventEffectHandler<?> multi -> eventTypes.addAll(multi.eventTypes());
-
-                case EffectHandler.NoEventEffectHandler<?> __ -> {
-                    // NoEventHandlers don't listen to events
-                }
+    public void refreshDynamicListeners(JavaPlugin plugin) {
+        if (Bukkit.isPrimaryThread()) {
+            if (this.registered) {
+                registerDynamicListeners(plugin);
             }
+        } else {
+            Bukkit.getScheduler().runTask(plugin, () -> refreshDynamicListeners(plugin));
         }
-
-        return eventTypes;
     }
 
     /**
-     * Dynamically registers a Bukkit listener for a specific event type.
+     * Creates the Bukkit listener for a specific event type, without registering it.
      * <p>
      * Uses reflection to access the event's {@code getHandlerList()} method
-     * and registers a {@link RegisteredListener} that delegates to our
+     * and creates a {@link RegisteredListener} that delegates to our
      * {@link #handleEvent(Event)} method.
      *
      * @param plugin    the plugin to register the listener with
      * @param eventType the event class to listen for
-     * @return true if registration succeeded, false otherwise
+     * @return the listener and its handler list, or null if the event type cannot be listened to
      */
-    private boolean registerListenerForEvent(JavaPlugin plugin, Class<? extends Event> eventType) {
+    private DynamicListener createListener(JavaPlugin plugin, Class<? extends Event> eventType) {
         // Check that an extractor exists for this event type
         if (!Registry.get(ExtractorsRegistry.class).has(eventType)) {
             Logger.warning("No ItemSourceExtractor for event type: <yellow>{}<reset>. Skipping listener registration.",
                     eventType.getSimpleName());
-            return false;
+            return null;
         }
 
         try {
             EventExecutor executor = (listener, event) -> {
-                if (eventType.isInstance(event)) {
+                if (eventType.isInstance(event) && this.activeTypes.contains(eventType)) {
                     handleEvent(event);
                 }
             };
@@ -142,17 +196,13 @@ public record ZEventsListener(EffectsDispatcher dispatcher) implements Listener
                     false  // ignoreCancelled = false (process even cancelled events)
             );
 
-            // Get the HandlerList for this event type and register our listener
-            HandlerList handlerList = getHandlerList(eventType);
-            handlerList.register(registeredListener);
-
-            Logger.debug("Registered dynamic listener for event: <aqua>{}<reset>", eventType.getSimpleName());
-            return true;
+            // Get the HandlerList for this event type
+            return new DynamicListener(getHandlerList(eventType), registeredListener);
 
         } catch (Exception e) {
             Logger.severe("Failed to register listener for event <red>{}<reset>: {}",
                     e, eventType.getSimpleName());
-            return false;
+            return null;
         }
     }
 
@@ -185,6 +235,7 @@ public record ZEventsListener(EffectsDispatcher dispatcher) implements Listener
      *   <li>Extract the player and ItemStack from the event</li>
      *   <li>Validate the extraction result</li>
      *   <li>Dispatch to the {@link ZEffectsDispatcher}</li>
+     *   <li>Remove the affected blocks and consolidate the collected drops</li>
      * </ol>
      *
      * @param event the Bukkit event
@@ -219,7 +270,7 @@ public record ZEventsListener(EffectsDispatcher dispatcher) implements Listener
                 result.itemSource().getType().name()
         );
         // Dispatch to handlers
-        EffectContext context = dispatcher.dispatch(result.player(), result.itemSource(), event);
+        EffectContext context = dispatcher.dispatch(result.player(), result.itemSource(), event, result.slot());
 
         Logger.debug("Event <aqua>{}<reset> processed by effects for player <yellow>{}<reset>",
                 eventClass.getSimpleName(),
@@ -231,14 +282,48 @@ public record ZEventsListener(EffectsDispatcher dispatcher) implements Listener
             return;
         }
 
-        // Break all affected blocks
-        for (Block block : context.affectedBlocks()) {
-            block.setType(Material.AIR);
+        // Break all affected blocks, physics only applies on the edges of the broken area
+        BulkBlockBreaker.removeBlocks(context.affectedBlocks());
+
+        dropItems(result.player(), context.drops());
+    }
+
+    /**
+     * Consolidates the drops collected by the effects and gives them to the player.
+     * <p>
+     * Similar drops are merged into full stacks so the minimum number of item entities
+     * is spawned. When {@link PluginSettings#effectDropsToInventory()} is enabled, drops
+     * go to the player inventory first and only the overflow is spawned.
+     *
+     * @param player the player the drops belong to
+     * @param drops  the drops collected by the effects
+     */
+    private void dropItems(Player player, List<ItemStack> drops) {
+        if (drops.isEmpty()) {
+            return;
+        }
+
+        List<ItemStack> merged = DropUtil.merge(drops);
+        Collection<ItemStack> toSpawn = merged;
+        if (!merged.isEmpty() && Settings.get(PluginSettings.class).effectDropsToInventory()) {
+            toSpawn = player.getInventory().addItem(merged.toArray(new ItemStack[0])).values();
         }
 
-        // Drop all collected items
-        for (ItemStack drop : context.drops()) {
-            result.player().getWorld().dropItemNaturally(result.player().getLocation(), drop);
+        Location location = player.getLocation();
+        for (ItemStack drop : toSpawn) {
+            player.getWorld().dropItemNaturally(location, drop);
         }
+
+        Logger.debug("Consolidated <gold>{}<reset> drop(s) into <gold>{}<reset> stack(s), spawned <gold>{}<reset> item(s) (<gold>{}<reset> entities avoided)",
+                drops.size(), merged.size(), toSpawn.size(), drops.size() - toSpawn.size());
+    }
+
+    /**
+     * A Bukkit listener created for an event type, with the handler list it belongs to.
+     *
+     * @param handlerList the handler list of the event type
+     * @param listener    the registered listener
+     */
+    private record DynamicListener(HandlerList handlerList, RegisteredListener listener) {
     }
 }
\ No newline at end of file
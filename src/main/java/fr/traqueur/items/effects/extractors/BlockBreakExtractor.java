@@ -4,6 +4,7 @@ import fr.traqueur.items.api.annotations.AutoExtractor;
 import fr.traqueur.items.api.effects.ItemSourceExtractor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 
 /**
@@ -21,6 +22,6 @@ public class BlockBreakExtractor implements ItemSourceExtractor<BlockBreakEvent>
         Player player = event.getPlayer();
         ItemStack item = player.getInventory().getItemInMainHand();
 
-        return new ExtractionResult(player, item);
+        return new ExtractionResult(player, item, EquipmentSlot.HAND);
     }
 }
\ No newline at end of file
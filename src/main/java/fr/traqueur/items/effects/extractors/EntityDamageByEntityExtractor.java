@@ -4,6 +4,7 @@ import fr.traqueur.items.api.annotations.AutoExtractor;
 import fr.traqueur.items.api.effects.ItemSourceExtractor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 
 /**
@@ -28,6 +29,6 @@ public class EntityDamageByEntityExtractor implements ItemSourceExtractor<Entity
         // Extract the weapon used to damage
         ItemStack weapon = player.getInventory().getItemInMainHand();
 
-        return new ExtractionResult(player, weapon);
+        return new ExtractionResult(player, weapon, EquipmentSlot.HAND);
     }
 }
\ No newline at end of file
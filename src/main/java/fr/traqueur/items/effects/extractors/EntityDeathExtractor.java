@@ -4,6 +4,7 @@ import fr.traqueur.items.api.annotations.AutoExtractor;
 import fr.traqueur.items.api.effects.ItemSourceExtractor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 
 /**
@@ -28,6 +29,6 @@ public class EntityDeathExtractor implements ItemSourceExtractor<EntityDeathEven
         // Extract the weapon used to kill
         ItemStack weapon = killer.getInventory().getItemInMainHand();
 
-        return new ExtractionResult(killer, weapon);
+        return new ExtractionResult(killer, weapon, EquipmentSlot.HAND);
     }
 }
\ No newline at end of file
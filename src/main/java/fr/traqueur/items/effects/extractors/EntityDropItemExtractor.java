@@ -6,6 +6,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityDropItemEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 
 /**
@@ -23,7 +24,7 @@ public class EntityDropItemExtractor implements ItemSourceExtractor<EntityDropIt
         if (lastDamage instanceof EntityDamageByEntityEvent entityDamageByEntityEvent) {
             if (entityDamageByEntityEvent.getDamager() instanceof Player player) {
                 ItemStack item = player.getInventory().getItemInMainHand();
-                return new ExtractionResult(player, item);
+                return new ExtractionResult(player, item, EquipmentSlot.HAND);
             }
         }
         return null;
@@ -4,6 +4,7 @@ import fr.traqueur.items.api.annotations.AutoExtractor;
 import fr.traqueur.items.api.effects.ItemSourceExtractor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 
 /**
@@ -24,6 +25,6 @@ public class PlayerEventExtractor implements ItemSourceExtractor<PlayerEvent> {
         Player player = event.getPlayer();
         ItemStack item = player.getInventory().getItemInMainHand();
 
-        return new ExtractionResult(player, item);
+        return new ExtractionResult(player, item, EquipmentSlot.HAND);
     }
 }
\ No newline at end of file
@@ -28,6 +28,6 @@ public class PlayerInteractExtractor implements ItemSourceExtractor<PlayerIntera
                 ? player.getInventory().getItemInMainHand()
                 : player.getInventory().getItemInOffHand();
 
-        return new ExtractionResult(player, item);
+        return new ExtractionResult(player, item, slot);
     }
 }
\ No newline at end of file
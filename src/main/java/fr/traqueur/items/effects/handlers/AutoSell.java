@@ -5,6 +5,7 @@ import fr.traqueur.items.api.annotations.AutoEffect;
 import fr.traqueur.items.api.annotations.IncompatibleWith;
 import fr.traqueur.items.api.effects.EffectContext;
 import fr.traqueur.items.api.effects.EffectHandler;
+import fr.traqueur.items.api.shop.SellResult;
 import fr.traqueur.items.api.shop.ShopProvider;
 import fr.traqueur.items.effects.settings.AutoSellSettings;
 import org.bukkit.entity.Player;
@@ -53,19 +54,14 @@ public record AutoSell(ItemsPlugin plugin) implements EffectHandler.MultiEventEf
             return; // Pas de provider disponible
         }
 
+        // Vendre tous les drops en une seule opération
+        SellResult result = provider.sellAll(plugin, player, drops, settings.multiplier());
+
         // Liste des drops à garder (ceux qui n'ont pas été vendus)
         List<ItemStack> remainingDrops = new ArrayList<>();
-
-        // Vendre chaque drop
-        for (ItemStack drop : drops) {
-            if (drop == null || drop.getType().isAir()) {
-                continue;
-            }
-
-            boolean sold = provider.sell(plugin, drop, drop.getAmount(), settings.multiplier(), player);
-
-            // Si l'item n'a pas été vendu, on le garde
-            if (!sold) {
+        for (int i = 0; i < drops.size(); i++) {
+            ItemStack drop = drops.get(i);
+            if (drop != null && !drop.getType().isAir() && !result.isSold(i)) {
                 remainingDrops.add(drop);
             }
         }
@@ -4,45 +4,45 @@ import fr.traqueur.items.api.annotations.AutoEffect;
 import fr.traqueur.items.api.effects.EffectContext;
 import fr.traqueur.items.api.effects.EffectHandler;
 import fr.traqueur.items.effects.settings.EnchantsSettings;
+import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.meta.ItemMeta;
 
+import java.util.Map;
+
 @AutoEffect(value = "ENCHANTS_APPLICATOR")
 public class EnchantsApplicator implements EffectHandler.NoEventEffectHandler<EnchantsSettings> {
 
     @Override
     public void handle(EffectContext context, EnchantsSettings settings) {
-        boolean error = false;
+        // Validate and apply on a single meta copy
+        ItemMeta meta = context.itemSource().getItemMeta();
+        if (meta == null) {
+            return;
+        }
+
+        Map<Enchantment, Integer> enchants = meta.getEnchants();
         for (EnchantsSettings.EnchantSetting enchantment : settings.enchantments()) {
             int evolution = enchantment.computeEvolutionValue();
-            int level = context.itemSource().getItemMeta().getEnchants().getOrDefault(enchantment.wrapper().enchantment(), 0);
+            int level = enchants.getOrDefault(enchantment.wrapper().enchantment(), 0);
             if (level == 0) {
-                error = true;
-                break;
+                return;
             }
             if (evolution < 0 && level + evolution < 0) {
-                error = true;
-                break;
+                return;
             }
         }
 
-        if (error) {
-            return;
-        }
+        for (EnchantsSettings.EnchantSetting enchantment : settings.enchantments()) {
+            int evolution = enchantment.computeEvolutionValue();
+            int level = meta.getEnchants().getOrDefault(enchantment.wrapper().enchantment(), 0);
 
-        ItemMeta meta = context.itemSource().getItemMeta();
-        if (meta != null) {
-            for (EnchantsSettings.EnchantSetting enchantment : settings.enchantments()) {
-                int evolution = enchantment.computeEvolutionValue();
-                int level = meta.getEnchants().getOrDefault(enchantment.wrapper().enchantment(), 0);
-
-                if (level + evolution == 0) {
-                    meta.removeEnchant(enchantment.wrapper().enchantment());
-                } else {
-                    meta.addEnchant(enchantment.wrapper().enchantment(), level + evolution, true);
-                }
+            if (level + evolution == 0) {
+                meta.removeEnchant(enchantment.wrapper().enchantment());
+            } else {
+                meta.addEnchant(enchantment.wrapper().enchantment(), level + evolution, true);
             }
-            context.itemSource().setItemMeta(meta);
         }
+        context.itemSource().setItemMeta(meta);
     }
 
     @Override
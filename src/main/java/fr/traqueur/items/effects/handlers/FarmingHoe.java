@@ -4,7 +4,10 @@ import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.annotations.AutoEffect;
 import fr.traqueur.items.api.effects.EffectContext;
 import fr.traqueur.items.api.effects.EffectHandler;
+import fr.traqueur.items.api.effects.drops.DropLocation;
 import fr.traqueur.items.effects.settings.FarmingHoeSettings;
+import fr.traqueur.items.utils.ChunkSnapshotCache;
+import fr.traqueur.items.utils.DropUtil;
 import fr.traqueur.items.utils.EventUtil;
 import fr.traqueur.items.api.utils.ItemUtil;
 import org.bukkit.Location;
@@ -13,17 +16,22 @@ import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.Ageable;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.BoundingBox;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 @AutoEffect(value = "FARMING_HOE")
 public class FarmingHoe implements EffectHandler.MultiEventEffectHandler<FarmingHoeSettings> {
@@ -86,22 +94,42 @@ public class FarmingHoe implements EffectHandler.MultiEventEffectHandler<Farming
         event.setCancelled(true);
         int range = settings.range();
         boolean damaged = false;
+        Predicate<Location> canBreak = EventUtil.canBreakArea(player, world, areaAround(originBlock, range));
+
+        // Drops going to the same place are merged and handed out once the whole area is harvested
+        boolean perBlockDrops = !settings.dropInInventory() && getDropLocation(settings) == DropLocation.BLOCK;
+        List<ItemStack> pendingDrops = perBlockDrops ? null : new ArrayList<>();
+
+        // Mature crops are found from chunk snapshots: only they are read and modified in the world
+        ChunkSnapshotCache snapshots = new ChunkSnapshotCache(world, 0);
+        int y = originBlock.getY();
+        for (int x = originBlock.getX() - range; x <= originBlock.getX() + range; x++) {
+            for (int z = originBlock.getZ() - range; z <= originBlock.getZ() + range; z++) {
+                if (!isHarvestable(snapshots.getBlockData(x, y, z), settings)) {
+                    continue;
+                }
 
-        // Récolter dans la zone
-        for (int x = -range; x <= range; x++) {
-            for (int z = -range; z <= range; z++) {
-                Block block = world.getBlockAt(
-                        originBlock.getX() + x,
-                        originBlock.getY(),
-                        originBlock.getZ() + z
-                );
-
-                if (harvestBlock(context, block, originBlock, settings, player)) {
+                Block block = world.getBlockAt(x, y, z);
+                if (harvestBlock(context, block, settings, player, canBreak, pendingDrops)) {
                     damaged = true;
                 }
             }
         }
 
+        if (pendingDrops != null && !pendingDrops.isEmpty()) {
+            List<ItemStack> merged = DropUtil.merge(pendingDrops);
+            if (settings.dropInInventory()) {
+                // Items that do not fit are added to the regular drops
+                Map<Integer, ItemStack> overflow = player.getInventory().addItem(merged.toArray(new ItemStack[0]));
+                context.addDrops(overflow.values());
+            } else {
+                Location dropLoc = getDropLocation(originBlock.getLocation(), originBlock.getLocation(), player.getLocation(), settings);
+                for (ItemStack drop : merged) {
+                    world.dropItemNaturally(dropLoc, drop);
+                }
+            }
+        }
+
         // Appliquer les dégâts si nécessaire
         if (damaged && settings.harvestDamage() > 0) {
             ItemUtil.applyDamageToItem(context.itemSource(), settings.harvestDamage(), player);
@@ -109,29 +137,41 @@ public class FarmingHoe implements EffectHandler.MultiEventEffectHandler<Farming
     }
 
     /**
-     * Harvests a single block if it's a mature crop
+     * Gets the horizontal square of blocks within range of a block, on its layer
      */
-    private boolean harvestBlock(EffectContext context, Block block, Block originBlock, FarmingHoeSettings settings, Player player) {
-        if (!(block.getBlockData() instanceof Ageable ageable)) {
+    private BoundingBox areaAround(Block center, int range) {
+        return new BoundingBox(center.getX() - range, center.getY(), center.getZ() - range,
+                center.getX() + range + 1, center.getY() + 1, center.getZ() + range + 1);
+    }
+
+    /**
+     * Checks if block data is a mature crop the hoe may harvest
+     */
+    private boolean isHarvestable(BlockData data, FarmingHoeSettings settings) {
+        if (!(data instanceof Ageable ageable) || ageable.getAge() != ageable.getMaximumAge()) {
             return false;
         }
+        return settings.allowedCrops() == null || settings.allowedCrops().isEmpty()
+                || settings.allowedCrops().contains(data.getMaterial());
+    }
 
-        if (ageable.getAge() != ageable.getMaximumAge()) {
+    /**
+     * Harvests a single block if it's a mature crop
+     *
+     * @param pendingDrops the list collecting the drops of the whole area, or null to drop them at the block
+     */
+    private boolean harvestBlock(EffectContext context, Block block, FarmingHoeSettings settings, Player player,
+                                 Predicate<Location> canBreak, List<ItemStack> pendingDrops) {
+        // The snapshot was taken in this tick, the live data only differs if the block was changed meanwhile
+        if (!(block.getBlockData() instanceof Ageable ageable) || !isHarvestable(ageable, settings)) {
             return false;
         }
 
         // Check if player has permission to break block at this location
-        if (!EventUtil.canBreakBlock(player, block.getLocation())) {
+        if (!canBreak.test(block.getLocation())) {
             return false;
         }
 
-        // Vérifier si autorisé
-        if (settings.allowedCrops() != null && !settings.allowedCrops().isEmpty()) {
-            if (!settings.allowedCrops().contains(block.getType())) {
-                return false;
-            }
-        }
-
         // Obtenir les drops
         Collection<ItemStack> drops = block.getDrops(context.itemSource(), player);
 
@@ -141,17 +181,12 @@ public class FarmingHoe implements EffectHandler.MultiEventEffectHandler<Farming
         }
 
         // Gérer les drops
-        if (settings.dropInInventory()) {
-            // Ajouter dans l'inventaire
-            Map<Integer, ItemStack> overflow = player.getInventory().addItem(drops.toArray(new ItemStack[0]));
-            // Les items qui ne rentrent pas sont ajoutés aux drops normaux
-            context.addDrops(overflow.values());
+        if (pendingDrops != null) {
+            pendingDrops.addAll(drops);
         } else {
-            // Déterminer la location des drops
-            Location dropLoc = getDropLocation(block.getLocation(), originBlock.getLocation(), player.getLocation(), settings);
-
             // Faire apparaître les drops
-            for (ItemStack drop : drops) {
+            Location dropLoc = block.getLocation();
+            for (ItemStack drop : DropUtil.merge(drops)) {
                 block.getWorld().dropItemNaturally(dropLoc, drop);
             }
         }
@@ -201,6 +236,7 @@ public class FarmingHoe implements EffectHandler.MultiEventEffectHandler<Farming
         event.setCancelled(true);
         int range = settings.range();
         boolean damaged = false;
+        Predicate<Location> canBreak = EventUtil.canBreakArea(player, world, areaAround(block, range));
 
         for (int x = -range; x <= range; x++) {
             for (int z = -range; z <= range; z++) {
@@ -211,7 +247,7 @@ public class FarmingHoe implements EffectHandler.MultiEventEffectHandler<Farming
                 );
 
                 // Check if player has permission to modify block at this location
-                if (canBecomeFarmland(targetBlock) && EventUtil.canBreakBlock(player, targetBlock.getLocation())) {
+                if (canBecomeFarmland(targetBlock) && canBreak.test(targetBlock.getLocation())) {
                     targetBlock.setType(Material.FARMLAND);
                     damaged = true;
                 }
@@ -281,17 +317,20 @@ public class FarmingHoe implements EffectHandler.MultiEventEffectHandler<Farming
      * Determines the drop location based on settings
      */
     private Location getDropLocation(Location blockLoc, Location centerLoc, Location playerLoc, FarmingHoeSettings settings) {
-        if (settings.dropLocation() == null) {
-            return blockLoc;
-        }
-
-        return switch (settings.dropLocation()) {
+        return switch (getDropLocation(settings)) {
             case CENTER -> centerLoc;
             case PLAYER -> playerLoc;
             default -> blockLoc;
         };
     }
 
+    /**
+     * Gets the configured drop location, drops go to each harvested block by default
+     */
+    private DropLocation getDropLocation(FarmingHoeSettings settings) {
+        return settings.dropLocation() == null ? DropLocation.BLOCK : settings.dropLocation();
+    }
+
     /**
      * Checks if a block can be turned into farmland
      */
@@ -4,10 +4,8 @@ import fr.traqueur.items.api.annotations.AutoEffect;
 import fr.traqueur.items.api.annotations.IncompatibleWith;
 import fr.traqueur.items.api.effects.EffectContext;
 import fr.traqueur.items.api.effects.EffectHandler;
-import fr.traqueur.items.api.registries.CustomBlockProviderRegistry;
-import fr.traqueur.items.api.registries.Registry;
+import fr.traqueur.items.blocks.BulkBlockBreaker;
 import fr.traqueur.items.effects.settings.HammerSettings;
-import fr.traqueur.items.utils.EventUtil;
 import fr.traqueur.items.api.utils.ItemUtil;
 import org.bukkit.FluidCollisionMode;
 import org.bukkit.Location;
@@ -15,7 +13,6 @@ import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.RayTraceResult;
 
 import java.util.*;
@@ -31,44 +28,17 @@ public class Hammer implements EffectHandler.SingleEventEffectHandler<HammerSett
         Player player = context.executor();
 
         BlockFace face = getAdjustedBlockFace(player);
-        Set<Block> blocksToBreak = new HashSet<>();
+        List<Block> blocksToBreak = collectBlocks(player, settings, block, face);
 
-        int nbBlocks = processBlocks(player, settings, blocksToBreak, block, face);
-
-        if (nbBlocks == 0) {
+        if (blocksToBreak.isEmpty()) {
             return;
         }
 
-        // Cancel the main event to prevent default block break behavior
-        event.setCancelled(true);
-
-        int actuallyBrokenBlocks = 0;
-
-        // Collect drops for all blocks
-        for (Block targetBlock : blocksToBreak) {
-            // Fire BlockBreakEvent for allowed plugins only
-            boolean success = EventUtil.fireEvent(new BlockBreakEvent(targetBlock, player), BlockBreakEvent.getHandlerList());
-            if (!success) {
-                continue; // Skip this block if event was cancelled
-            }
-
-            // Add to affected blocks only if not cancelled
-            context.affectedBlocks().add(targetBlock);
-
-            // Check if this is a custom block (zItems, ItemsAdder, Nexo, Oraxen, etc.)
-            CustomBlockProviderRegistry providerRegistry = Registry.get(CustomBlockProviderRegistry.class);
-            Optional<List<ItemStack>> customDrop = providerRegistry.getCustomBlockDrop(targetBlock, player);
-
-            if (customDrop.isPresent()) {
-                // Custom block found - add custom item drop
-                context.addDrops(customDrop.get());
-            } else {
-                // Normal block - use vanilla drops
-                Collection<ItemStack> blockDrops = targetBlock.getDrops(context.itemSource());
-                context.addDrops(blockDrops);
-            }
-
-            actuallyBrokenBlocks++;
+        // Protection, events, custom blocks and drops are handled in batch,
+        // the main event is cancelled if any block can be broken to prevent default block break behavior
+        int actuallyBrokenBlocks = BulkBlockBreaker.breakBlocks(context, blocksToBreak);
+        if (actuallyBrokenBlocks == 0) {
+            return;
         }
 
         // Apply damage based on actually broken blocks
@@ -78,39 +48,26 @@ public class Hammer implements EffectHandler.SingleEventEffectHandler<HammerSett
         }
     }
 
-    private int processBlocks(Player player, HammerSettings settings, Set<Block> blocksToBreak, Block block, BlockFace face) {
+    private List<Block> collectBlocks(Player player, HammerSettings settings, Block block, BlockFace face) {
         int depth = settings.depth();
         int width = settings.width();
         int height = settings.height();
-        int nbBlocks = 0;
+        float yaw = player.getLocation().getYaw();
+        List<Block> blocksToBreak = new ArrayList<>(depth * (height | 1) * (width | 1));
 
+        // Each (d, h, w) offset maps to a distinct block, no deduplication needed
         for (int d = 0; d < depth; d++) {
             for (int h = -height / 2; h <= height / 2; h++) {
                 for (int w = -width / 2; w <= width / 2; w++) {
-                    Block targetBlock = getRelativeBlock(block, face, player.getLocation().getYaw(), d, h, w);
-                    if (targetBlock != null && isValidTargetBlock(targetBlock, blocksToBreak, settings, player)) {
+                    Block targetBlock = getRelativeBlock(block, face, yaw, d, h, w);
+                    // Use settings to check if block is breakable (includes air, liquid, and material/tag checks)
+                    if (targetBlock != null && settings.isBreakable(targetBlock)) {
                         blocksToBreak.add(targetBlock);
-                        nbBlocks++;
                     }
                 }
             }
         }
-        return nbBlocks;
-    }
-
-    private boolean isValidTargetBlock(Block targetBlock, Set<Block> alreadyProcessed, HammerSettings settings, Player player) {
-        // Don't process the same block twice
-        if (alreadyProcessed.contains(targetBlock)) {
-            return false;
-        }
-
-        // Check if player has permission to break block at this location
-        if (!EventUtil.canBreakBlock(player, targetBlock.getLocation())) {
-            return false;
-        }
-
-        // Use settings to check if block is breakable (includes air, liquid, and material/tag checks)
-        return settings.isBreakable(targetBlock);
+        return blocksToBreak;
     }
 
     private BlockFace getAdjustedBlockFace(Player player) {
@@ -21,15 +21,16 @@ public class InfiniteBucket implements EffectHandler.MultiEventEffectHandler<Emp
             Material.MILK_BUCKET,
             Material.POWDER_SNOW_BUCKET
     );
+    private static final Set<Class<? extends Event>> EVENT_TYPES = Set.of(PlayerBucketFillEvent.class, PlayerBucketEmptyEvent.class);
 
     @Override
     public Set<Class<? extends Event>> eventTypes() {
-        return Set.of(PlayerBucketFillEvent.class, PlayerBucketEmptyEvent.class);
+        return EVENT_TYPES;
     }
 
     @Override
     public void handle(EffectContext context, EmptySettings settings) {
-        if (!eventTypes().contains(context.event().getClass())) {
+        if (!EVENT_TYPES.contains(context.event().getClass())) {
             throw new IllegalArgumentException("Unsupported event type: " + context.event().getClass());
         }
 
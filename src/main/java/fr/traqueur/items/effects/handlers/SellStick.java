@@ -5,6 +5,7 @@ import fr.traqueur.items.api.annotations.AutoEffect;
 import fr.traqueur.items.api.effects.EffectContext;
 import fr.traqueur.items.api.effects.EffectHandler;
 import fr.traqueur.items.api.interactions.InteractionAction;
+import fr.traqueur.items.api.shop.SellResult;
 import fr.traqueur.items.api.shop.ShopProvider;
 import fr.traqueur.items.effects.settings.SellStickSettings;
 import fr.traqueur.items.api.utils.ItemUtil;
@@ -15,8 +16,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 @AutoEffect(value = "SELL_STICK")
 public record SellStick(
@@ -24,7 +24,7 @@ public record SellStick(
 
     @Override
     public void handle(EffectContext effectContext, SellStickSettings settings) {
-        PlayerInteractEvent event = effectContext.getEventAs(this.eventType());
+        PlayerInteractEvent event = effectContext.getEventAs(PlayerInteractEvent.class);
         Player player = effectContext.executor();
 
         if (settings.hand() != null && event.getHand() != settings.hand()) {
@@ -48,16 +48,15 @@ public record SellStick(
         ShopProvider provider = ShopProvider.get();
         event.setCancelled(true);
 
-        List<ItemStack> itemStacks = new ArrayList<>();
-        for (ItemStack itemStack : container.getInventory().getContents()) {
-            if (itemStack == null || itemStack.getType() == Material.AIR) {
-                itemStacks.add(new ItemStack(Material.AIR));
-            } else {
-                boolean sold = provider.sell(plugin, itemStack, itemStack.getAmount(), settings.multiplier(), player);
-                itemStacks.add(!sold ? itemStack : new ItemStack(Material.AIR));
-            }
+        ItemStack[] contents = container.getInventory().getContents();
+        SellResult result = provider.sellAll(plugin, player, Arrays.asList(contents), settings.multiplier());
+        ItemStack[] itemStacks = new ItemStack[contents.length];
+        for (int i = 0; i < contents.length; i++) {
+            ItemStack itemStack = contents[i];
+            boolean empty = itemStack == null || itemStack.getType() == Material.AIR;
+            itemStacks[i] = empty || result.isSold(i) ? new ItemStack(Material.AIR) : itemStack;
         }
-        container.getInventory().setContents(itemStacks.toArray(ItemStack[]::new));
+        container.getInventory().setContents(itemStacks);
 
         if (settings.damage()) {
             ItemUtil.applyDamageToItem(event.getItem(), 1, player);
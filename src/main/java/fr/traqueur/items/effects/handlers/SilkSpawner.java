@@ -26,7 +26,7 @@ public record SilkSpawner(ItemsPlugin plugin) implements EffectHandler.SingleEve
     public void handle(EffectContext context, EmptySettings settings) {
         Set<Block> affectedBlocks = new HashSet<>(context.affectedBlocks());
         if(context.affectedBlocks().isEmpty()) {
-            Block block = context.getEventAs(eventType()).getBlock();
+            Block block = context.getEventAs(BlockBreakEvent.class).getBlock();
             affectedBlocks.add(block);
         }
 
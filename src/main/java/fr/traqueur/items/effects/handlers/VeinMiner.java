@@ -1,19 +1,21 @@
 package fr.traqueur.items.effects.handlers;
 
+import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.annotations.AutoEffect;
 import fr.traqueur.items.api.annotations.IncompatibleWith;
 import fr.traqueur.items.api.effects.EffectContext;
 import fr.traqueur.items.api.effects.EffectHandler;
-import fr.traqueur.items.api.registries.CustomBlockProviderRegistry;
-import fr.traqueur.items.api.registries.Registry;
+import fr.traqueur.items.blocks.BulkBlockBreaker;
 import fr.traqueur.items.effects.settings.VeinMinerSettings;
-import fr.traqueur.items.utils.EventUtil;
+import fr.traqueur.items.utils.BlockPosUtil;
+import fr.traqueur.items.utils.ChunkSnapshotCache;
 import fr.traqueur.items.api.utils.ItemUtil;
+import fr.traqueur.items.utils.LongHashSet;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.inventory.ItemStack;
 
 import java.util.*;
 
@@ -33,45 +35,18 @@ public class VeinMiner implements EffectHandler.SingleEventEffectHandler<VeinMin
         }
 
         // Get all connected blocks of the same type
-        Set<Block> veinBlocks = getVeinBlocks(block, settings.blockLimit());
-
-        // Filter blocks that can be broken
-        veinBlocks.removeIf(veinBlock -> !isValidTargetBlock(veinBlock, new HashSet<>(), settings, player));
+        List<Block> veinBlocks = getVeinBlocks(block, settings.blockLimit());
 
         if (veinBlocks.isEmpty()) {
             return;
         }
 
-        // Cancel the main event to prevent default block break behavior
-        event.setCancelled(true);
-
-        int actuallyBrokenBlocks = 0;
-
-        // Process all vein blocks
-        for (Block veinBlock : veinBlocks) {
-            // Fire BlockBreakEvent for allowed plugins only
-            boolean success = EventUtil.fireEvent(new BlockBreakEvent(veinBlock, player), BlockBreakEvent.getHandlerList());
-            if (!success) {
-                continue; // Skip this block if event was cancelled
-            }
-
-            // Add to affected blocks only if not cancelled
-            context.affectedBlocks().add(veinBlock);
-
-            // Check if this is a custom block (zItems, ItemsAdder, Nexo, Oraxen, etc.)
-            CustomBlockProviderRegistry providerRegistry = Registry.get(CustomBlockProviderRegistry.class);
-            Optional<List<ItemStack>> customDrop = providerRegistry.getCustomBlockDrop(veinBlock, player);
-
-            if (customDrop.isPresent()) {
-                // Custom block found - add custom item drop
-                context.addDrops(customDrop.get());
-            } else {
-                // Normal block - use vanilla drops
-                Collection<ItemStack> blockDrops = veinBlock.getDrops(context.itemSource());
-                context.addDrops(blockDrops);
-            }
-
-            actuallyBrokenBlocks++;
+        // Protection, events, custom blocks and drops are handled in batch,
+        // the main event is cancelled if any block can be broken to prevent default block break behavior.
+        // Every vein block has the start block type, so it is breakable.
+        int actuallyBrokenBlocks = BulkBlockBreaker.breakBlocks(context, veinBlocks);
+        if (actuallyBrokenBlocks == 0) {
+            return;
         }
 
         // Apply damage based on actually broken blocks
@@ -82,29 +57,41 @@ public class VeinMiner implements EffectHandler.SingleEventEffectHandler<VeinMin
     }
 
     /**
-     * Retrieves a set of connected blocks of the same type as the given starting block,
+     * Retrieves the connected blocks of the same type as the given starting block,
      * up to a specified maximum vein size. The method explores adjacent blocks in all
      * directions (including diagonals and different heights) to form a vein.
+     * <p>
+     * The breadth-first traversal runs on packed coordinates (see {@link BlockPosUtil}) with a
+     * primitive visited set and queue, reads block types through a {@link ChunkSnapshotCache}
+     * (live reads for small veins, chunk snapshots for large ones), and never crosses
+     * into unloaded chunks. Positions are marked visited when first seen, so each one is read
+     * and queued at most once. {@link Block} objects are only created for the result.
      *
      * @param startBlock  the initial block to begin the vein search
      * @param maxVeinSize the maximum number of blocks to include in the vein
-     * @return a set of blocks forming the vein, including the starting block
+     * @return the blocks forming the vein in traversal order, starting with the starting block
      */
-    private Set<Block> getVeinBlocks(Block startBlock, int maxVeinSize) {
-        Set<Block> veinBlocks = new HashSet<>();
-        Queue<Block> blocksToCheck = new ArrayDeque<>();
+    private List<Block> getVeinBlocks(Block startBlock, int maxVeinSize) {
+        long startTime = System.nanoTime();
+        World world = startBlock.getWorld();
         Material blockType = startBlock.getType();
+        ChunkSnapshotCache types = new ChunkSnapshotCache(world);
 
-        blocksToCheck.add(startBlock);
+        long start = BlockPosUtil.pack(startBlock);
+        LongHashSet visited = new LongHashSet(Math.min(maxVeinSize, 4096) * 4);
+        visited.add(start);
 
-        while (!blocksToCheck.isEmpty() && veinBlocks.size() < maxVeinSize) {
-            Block currentBlock = blocksToCheck.poll();
+        // Queue entries in [head, tail) are pending, entries before head form the vein
+        long[] queue = new long[Math.max(16, Math.min(maxVeinSize, 4096))];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
 
-            if (currentBlock.getType() != blockType || veinBlocks.contains(currentBlock)) {
-                continue;
-            }
-
-            veinBlocks.add(currentBlock);
+        while (head < tail && head < maxVeinSize) {
+            long current = queue[head++];
+            int cx = BlockPosUtil.unpackX(current);
+            int cy = BlockPosUtil.unpackY(current);
+            int cz = BlockPosUtil.unpackZ(current);
 
             // Explore the 26 positions around the current block (including diagonals and heights)
             for (int x = -1; x <= 1; x++) {
@@ -112,31 +99,29 @@ public class VeinMiner implements EffectHandler.SingleEventEffectHandler<VeinMin
                     for (int z = -1; z <= 1; z++) {
                         if (x == 0 && y == 0 && z == 0) continue;  // Ignore the current block itself
 
-                        Block adjacentBlock = currentBlock.getRelative(x, y, z);
-
-                        // Add only the blocks not already visited
-                        if (!veinBlocks.contains(adjacentBlock)) {
-                            blocksToCheck.add(adjacentBlock);
+                        long adjacent = BlockPosUtil.pack(cx + x, cy + y, cz + z);
+                        if (!visited.add(adjacent) || types.getType(cx + x, cy + y, cz + z) != blockType) {
+                            continue;
                         }
+                        if (tail == queue.length) {
+                            queue = Arrays.copyOf(queue, queue.length << 1);
+                        }
+                        queue[tail++] = adjacent;
                     }
                 }
             }
         }
 
-        return veinBlocks;
-    }
-
-    private boolean isValidTargetBlock(Block targetBlock, Set<Block> alreadyProcessed, VeinMinerSettings settings, Player player) {
-        if (alreadyProcessed.contains(targetBlock)) {
-            return false;
-        }
-
-        // Check if player has permission to break block at this location
-        if (!EventUtil.canBreakBlock(player, targetBlock.getLocation())) {
-            return false;
+        int veinSize = Math.min(head, maxVeinSize);
+        List<Block> veinBlocks = new ArrayList<>(veinSize);
+        for (int i = 0; i < veinSize; i++) {
+            long pos = queue[i];
+            veinBlocks.add(world.getBlockAt(BlockPosUtil.unpackX(pos), BlockPosUtil.unpackY(pos), BlockPosUtil.unpackZ(pos)));
         }
 
-        return settings.isBreakable(targetBlock);
+        Logger.debug("Vein of {} {} blocks scanned in {}µs ({} positions visited, {} chunk snapshots)",
+                veinSize, blockType, (System.nanoTime() - startTime) / 1000, visited.size(), types.size());
+        return veinBlocks;
     }
 
     @Override
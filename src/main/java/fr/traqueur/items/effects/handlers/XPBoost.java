@@ -18,7 +18,7 @@ public class XPBoost implements EffectHandler.SingleEventEffectHandler<BoostSett
 
     @Override
     public void handle(EffectContext context, BoostSettings settings) {
-        BlockBreakEvent event = context.getEventAs(this.eventType());
+        BlockBreakEvent event = context.getEventAs(BlockBreakEvent.class);
 
         if (settings.chanceToBoost() != -1 && ThreadLocalRandom.current().nextDouble(0, 100) > settings.chanceToBoost()) {
             return;
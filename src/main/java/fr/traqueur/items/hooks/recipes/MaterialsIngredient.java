@@ -0,0 +1,35 @@
+package fr.traqueur.items.hooks.recipes;
+
+import fr.traqueur.recipes.api.domains.Ingredient;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.RecipeChoice;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Ingredient matching any item of a set of materials, registered as a single {@link RecipeChoice.MaterialChoice}.
+ */
+public class MaterialsIngredient extends Ingredient {
+
+    private final Set<Material> materials;
+    private final List<Material> choices;
+
+    public MaterialsIngredient(Set<Material> materials, Character sign) {
+        super(sign);
+        this.materials = EnumSet.copyOf(materials);
+        this.choices = List.copyOf(this.materials);
+    }
+
+    @Override
+    public boolean isSimilar(ItemStack item) {
+        return item != null && this.materials.contains(item.getType());
+    }
+
+    @Override
+    public RecipeChoice choice() {
+        return new RecipeChoice.MaterialChoice(this.choices);
+    }
+}
@@ -0,0 +1,182 @@
+package fr.traqueur.items.items;
+
+import fr.traqueur.items.Messages;
+import fr.traqueur.items.api.Logger;
+import fr.traqueur.items.api.effects.Effect;
+import fr.traqueur.items.api.effects.HandlerDescriptor;
+import fr.traqueur.items.api.items.ItemMetadata;
+import fr.traqueur.items.api.placeholders.PlaceholderParser;
+import fr.traqueur.items.api.registries.HandlersRegistry;
+import fr.traqueur.items.api.registries.Registry;
+import fr.traqueur.items.api.settings.ItemSettings;
+import fr.traqueur.items.api.settings.models.ItemStackWrapper;
+import fr.traqueur.items.items.metadata.BlockStateMetadata;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache of player-independent item prototypes.
+ * <p>
+ * Building a {@link ZItem} from its settings costs several meta round-trips, MiniMessage parses
+ * and PDC writes, although most items produce the same stack for every player. Each item is
+ * analyzed once when it is loaded: if nothing in it depends on the player, its first build is kept
+ * as a prototype and later builds only clone it.
+ * <p>
+ * An item is player-dependent when one of its texts (display name, item name, lore, effect lore
+ * messages) contains a placeholder while a placeholder parser is installed, when it copies another
+ * plugin's item (providers receive the player), when it carries block state metadata (block state
+ * metas receive the player), or when a base effect runs a NoEvent handler that is not built into
+ * zItems (addon handlers may read the player). Handlers register after items are loaded, so
+ * effects are checked on the first build.
+ * <p>
+ * Entries are keyed by item instance and discarded by {@link #invalidate()} when items are reloaded.
+ */
+public final class ItemPrototypes {
+
+    private static final Map<ZItem, Prototype> PROTOTYPES = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private ItemPrototypes() {
+        // Utility class
+    }
+
+    /**
+     * Analyzes a freshly loaded item and records whether it can be served from a prototype.
+     *
+     * @param item the item
+     */
+    public static void analyze(ZItem item) {
+        Prototype prototype = new Prototype(hasPlaceholders(item.settings()), hasPlayerContext(item.settings()));
+        PROTOTYPES.put(item, prototype);
+        Logger.debug("Item <aqua>{}<reset> analyzed: placeholders=<gold>{}<reset>, player context=<gold>{}<reset>.",
+                item.id(), prototype.placeholders(), prototype.playerContext());
+    }
+
+    /**
+     * Discards every analysis and prototype. Must be called when items are reloaded.
+     */
+    public static void invalidate() {
+        PROTOTYPES.clear();
+    }
+
+    /**
+     * Gets a copy of the prototype of an item, compiling it on first access.
+     *
+     * @param item     the item
+     * @param compiler builds the item without player context
+     * @return a fresh copy of the prototype, or null if the item must be built for each player
+     */
+    static @Nullable ItemStack copy(ZItem item, Supplier<ItemStack> compiler) {
+        Prototype prototype = PROTOTYPES.get(item);
+        if (prototype == null || prototype.playerContext()) {
+            return null;
+        }
+        if (prototype.placeholders() && !(PlaceholderParser.Holder.getInstance() instanceof PlaceholderParser.EmptyParser)) {
+            return null;
+        }
+        if (prototype.handlerContext(item.settings().effects())) {
+            return null;
+        }
+
+        ItemStack stack = prototype.stack;
+        if (stack == null) {
+            synchronized (prototype) {
+                stack = prototype.stack;
+                if (stack == null) {
+                    stack = compiler.get();
+                    prototype.stack = stack;
+                    Logger.debug("Compiled prototype for item <aqua>{}<reset>.", item.id());
+                }
+            }
+        }
+        return stack.clone();
+    }
+
+    private static boolean hasPlaceholders(ItemSettings settings) {
+        ItemStackWrapper baseItem = settings.baseItem();
+        if (containsPlaceholder(baseItem.displayName()) || containsPlaceholder(baseItem.itemName())) {
+            return true;
+        }
+        if (baseItem.lore() != null && baseItem.lore().stream().anyMatch(ItemPrototypes::containsPlaceholder)) {
+            return true;
+        }
+
+        List<Effect> effects = settings.effects();
+        if (effects == null || effects.isEmpty()) {
+            return false;
+        }
+        return containsPlaceholder(Messages.EFFECTS_LORE_HEADER.get())
+                || containsPlaceholder(Messages.EFFECTS_LORE_TITLE.get())
+                || containsPlaceholder(Messages.EFFECTS_LORE_LINE.get())
+                || containsPlaceholder(Messages.EFFECTS_LORE_MORE.get());
+    }
+
+    private static boolean hasPlayerContext(ItemSettings settings) {
+        if (settings.baseItem().copyFrom() != null) {
+            return true;
+        }
+        List<ItemMetadata> metadata = settings.metadata();
+        return metadata != null && metadata.stream().anyMatch(BlockStateMetadata.class::isInstance);
+    }
+
+    private static boolean hasHandlerContext(@Nullable List<Effect> effects) {
+        if (effects == null || effects.isEmpty()) {
+            return false;
+        }
+        HandlersRegistry handlersRegistry = Registry.get(HandlersRegistry.class);
+        for (Effect effect : effects) {
+            HandlerDescriptor descriptor = handlersRegistry.getDescriptor(effect.type());
+            if (descriptor == null) {
+                // The handler may register later and must then see the player
+                return true;
+            }
+            if (descriptor.noEvent() && descriptor.handler().getClass().getClassLoader() != ItemPrototypes.class.getClassLoader()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsPlaceholder(@Nullable String text) {
+        return text != null && text.indexOf('%') >= 0;
+    }
+
+    /**
+     * Analysis of an item, holding its prototype once compiled.
+     */
+    private static final class Prototype {
+
+        private final boolean placeholders;
+        private final boolean playerContext;
+        /** Whether a base effect handler may read the player, null until the first build */
+        private volatile Boolean handlerContext;
+        private volatile ItemStack stack;
+
+        private Prototype(boolean placeholders, boolean playerContext) {
+            this.placeholders = placeholders;
+            this.playerContext = playerContext;
+        }
+
+        private boolean placeholders() {
+            return placeholders;
+        }
+
+        private boolean playerContext() {
+            return playerContext;
+        }
+
+        private boolean handlerContext(@Nullable List<Effect> effects) {
+            Boolean context = handlerContext;
+            if (context == null) {
+                context = hasHandlerContext(effects);
+                handlerContext = context;
+            }
+            return context;
+        }
+    }
+}
@@ -6,11 +6,11 @@ import fr.traqueur.items.api.effects.Effect;
 import fr.traqueur.items.api.events.ItemBuildEvent;
 import fr.traqueur.items.api.items.Item;
 import fr.traqueur.items.api.managers.EffectsManager;
-import fr.traqueur.items.api.placeholders.PlaceholderParser;
 import fr.traqueur.items.api.settings.ItemSettings;
 import fr.traqueur.items.api.settings.models.EnchantmentWrapper;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import fr.traqueur.items.api.utils.ItemUtil;
-import fr.traqueur.items.api.utils.MessageUtil;
+import fr.traqueur.items.api.utils.TextTemplate;
 import fr.traqueur.items.serialization.Keys;
 import fr.traqueur.items.utils.AttributeUtil;
 import fr.traqueur.structura.annotations.Options;
@@ -36,6 +36,25 @@ public record ZItem(String id, @Options(inline = true) ItemSettings settings) im
     public @NotNull ItemStack build(@Nullable Player player, int amount) {
         ItemsPlugin plugin = JavaPlugin.getPlugin(ItemsPlugin.class);
 
+        // Player-independent items are cloned from their prototype instead of being rebuilt
+        ItemStack itemStack = ItemPrototypes.copy(this, () -> this.compile(plugin, null));
+        if (itemStack == null) {
+            itemStack = this.compile(plugin, player);
+        }
+
+        ItemBuildEvent event = new ItemBuildEvent(player, this, itemStack);
+        plugin.getServer().getPluginManager().callEvent(event);
+        return event.getItemStack();
+    }
+
+    /**
+     * Builds the item stack from the settings, without firing {@link ItemBuildEvent}.
+     *
+     * @param plugin the plugin instance
+     * @param player the player for context, or null
+     * @return the built item stack
+     */
+    private @NotNull ItemStack compile(ItemsPlugin plugin, @Nullable Player player) {
         // Generate effect lore lines (base effects only during item creation)
         List<Component> effectLoreLines = List.of();
         if (settings.effects() != null && !settings.effects().isEmpty()) {
@@ -46,101 +65,99 @@ public record ZItem(String id, @Options(inline = true) ItemSettings settings) im
         // Combine base lore with effect lore
         List<Component> combinedLore = new ArrayList<>();
         if (settings.baseItem().lore() != null) {
-            List<Component> lore = settings.baseItem().lore().stream().map(str -> MessageUtil.parseMessage(PlaceholderParser.parsePlaceholders(player, str))).toList();
+            List<Component> lore = settings.baseItem().lore().stream().map(str -> TextTemplate.compile(str).render(player)).toList();
             combinedLore.addAll(lore);
         }
         combinedLore.addAll(effectLoreLines);
 
         // Create base item using ItemUtil
         ItemStack itemStack = this.settings.baseItem().build(player);
-        ItemUtil.setLore(itemStack, combinedLore);
 
-        AttributeUtil.applyAttributes(itemStack, settings.attributes(), plugin, settings.attributeMergeStrategy());
+        // Every meta stage below shares a single meta read and write
+        try (ItemMetaTransaction transaction = ItemUtil.openMeta(itemStack)) {
+            // Attributes first: on Paper they are a data component written on the stack
+            AttributeUtil.applyAttributes(transaction, settings.attributes(), plugin, settings.attributeMergeStrategy());
+
+            transaction.lore(combinedLore);
 
-        ItemMeta meta = itemStack.getItemMeta();
-        if (meta != null) {
-            // Apply enchantments
-            if (settings.enchantments() != null) {
-                for (EnchantmentWrapper enchantment : settings.enchantments()) {
-                    meta.addEnchant(enchantment.enchantment(), enchantment.level(), true);
+            ItemMeta meta = transaction.meta();
+            if (meta != null) {
+                // Apply enchantments
+                if (settings.enchantments() != null) {
+                    for (EnchantmentWrapper enchantment : settings.enchantments()) {
+                        meta.addEnchant(enchantment.enchantment(), enchantment.level(), true);
+                    }
                 }
-            }
 
-            if (meta instanceof Damageable damageable) {
-                if (settings.maxDamage() > 0) {
-                    damageable.setMaxDamage(settings.maxDamage());
+                if (meta instanceof Damageable damageable) {
+                    if (settings.maxDamage() > 0) {
+                        damageable.setMaxDamage(settings.maxDamage());
+                    }
                 }
-            }
 
-            if (settings.customModelData() > 0) {
-                if (PlatformType.isPaper()) {
-                    meta.getCustomModelDataComponent()
-                            .setFloats(List.of((float) settings.customModelData()));
-                } else {
-                    meta.setCustomModelData(settings.customModelData());
+                if (settings.customModelData() > 0) {
+                    if (PlatformType.isPaper()) {
+                        meta.getCustomModelDataComponent()
+                                .setFloats(List.of((float) settings.customModelData()));
+                    } else {
+                        meta.setCustomModelData(settings.customModelData());
+                    }
                 }
-            }
 
-            meta.setUnbreakable(settings.unbreakable());
+                meta.setUnbreakable(settings.unbreakable());
 
-            meta.setHideTooltip(settings.hideTooltip());
+                meta.setHideTooltip(settings.hideTooltip());
 
-            if (settings.maxStackSize() > 0) {
-                meta.setMaxStackSize(settings.maxStackSize());
-            }
+                if (settings.maxStackSize() > 0) {
+                    meta.setMaxStackSize(settings.maxStackSize());
+                }
 
-            if (settings.rarity() != null) {
-                meta.setRarity(settings.rarity());
-            }
+                if (settings.rarity() != null) {
+                    meta.setRarity(settings.rarity());
+                }
 
-            if (settings.flags() != null) {
-                meta.addItemFlags(settings.flags().toArray(ItemFlag[]::new));
-            }
+                if (settings.flags() != null) {
+                    meta.addItemFlags(settings.flags().toArray(ItemFlag[]::new));
+                }
 
-            if (meta instanceof Repairable repairable) {
-                if (settings.repairCost() >= 0) {
-                    repairable.setRepairCost(settings.repairCost());
+                if (meta instanceof Repairable repairable) {
+                    if (settings.repairCost() >= 0) {
+                        repairable.setRepairCost(settings.repairCost());
+                    }
                 }
-            }
 
-            if (settings.damageTypeResistance() != null) {
-                meta.setDamageResistant(settings.damageTypeResistance());
+                if (settings.damageTypeResistance() != null) {
+                    meta.setDamageResistant(settings.damageTypeResistance());
+                }
             }
-            itemStack.setItemMeta(meta);
-        }
 
+            if (settings.effects() != null && !settings.effects().isEmpty()) {
+                // Apply effects directly to PDC without updating lore
+                // (lore was already generated above with generateBaseEffectLore)
+                PersistentDataContainer container = transaction.container();
+                if (container != null) {
+                    Keys.EFFECTS.set(container, new ArrayList<>(settings.effects()));
+                }
 
-        if (settings.effects() != null && !settings.effects().isEmpty()) {
-            meta = itemStack.getItemMeta();
-            // Apply effects directly to PDC without updating lore
-            // (lore was already generated above with generateBaseEffectLore)
-            if (meta != null) {
-                PersistentDataContainer container = meta.getPersistentDataContainer();
-                Keys.EFFECTS.set(container, new ArrayList<>(settings.effects()));
-                itemStack.setItemMeta(meta);
+                // Apply NoEventEffects (attributes, etc.) for each effect, they edit the stack itself
+                ItemStack committed = transaction.itemStack();
+                for (Effect effect : settings.effects()) {
+                    plugin.getDispatcher().applyNoEventEffect(player, committed, effect);
+                }
             }
 
-            // Apply NoEventEffects (attributes, etc.) for each effect
-            for (Effect effect : settings.effects()) {
-                plugin.getDispatcher().applyNoEventEffect(player, itemStack, effect);
+            // Apply metadata
+            if (settings.metadata() != null && !settings.metadata().isEmpty()) {
+                for (var metadata : settings.metadata()) {
+                    metadata.apply(transaction, player);
+                }
             }
-        }
 
-        // Apply metadata
-        if (settings.metadata() != null && !settings.metadata().isEmpty()) {
-            for (var metadata : settings.metadata()) {
-                metadata.apply(itemStack, player);
+            PersistentDataContainer container = transaction.container();
+            if (container != null) {
+                Keys.ITEM_ID.set(container, id);
             }
         }
-        meta = itemStack.getItemMeta();
-        if (meta != null) {
-            PersistentDataContainer container = meta.getPersistentDataContainer();
-            Keys.ITEM_ID.set(container, id);
-            itemStack.setItemMeta(meta);
-        }
-
-        ItemBuildEvent event = new ItemBuildEvent(player, this, itemStack);
-        plugin.getServer().getPluginManager().callEvent(event);
-        return event.getItemStack();
+        return itemStack;
     }
 }
\ No newline at end of file
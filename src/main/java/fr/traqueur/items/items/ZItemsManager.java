@@ -5,11 +5,10 @@ import fr.traqueur.items.api.items.Item;
 import fr.traqueur.items.api.managers.ItemsManager;
 import fr.traqueur.items.api.registries.ItemsRegistry;
 import fr.traqueur.items.api.registries.Registry;
-import fr.traqueur.items.serialization.Keys;
+import fr.traqueur.items.utils.ItemInspector;
 import fr.traqueur.recipes.api.RecipesAPI;
 import fr.traqueur.recipes.impl.domains.ItemRecipe;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -43,17 +42,8 @@ public class ZItemsManager implements ItemsManager {
 
     @Override
     public Optional<Item> getCustomItem(ItemStack itemStack) {
-        if (itemStack == null || !itemStack.hasItemMeta()) {
-            return Optional.empty();
-        }
-
-        ItemMeta meta = itemStack.getItemMeta();
-        if (meta == null) {
-            return Optional.empty();
-        }
-
-        Optional<String> itemId = Keys.ITEM_ID.get(meta.getPersistentDataContainer());
-        if (itemId.isEmpty()) {
+        String itemId = ItemInspector.getItemId(itemStack);
+        if (itemId == null) {
             return Optional.empty();
         }
 
@@ -62,7 +52,7 @@ public class ZItemsManager implements ItemsManager {
             return Optional.empty();
         }
 
-        Item item = registry.getById(itemId.get());
+        Item item = registry.getById(itemId);
         return Optional.ofNullable(item);
     }
 
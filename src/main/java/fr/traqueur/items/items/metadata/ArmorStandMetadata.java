@@ -4,10 +4,10 @@ import com.destroystokyo.paper.inventory.meta.ArmorStandMeta;
 import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.annotations.AutoMetadata;
 import fr.traqueur.items.api.items.ItemMetadata;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import fr.traqueur.structura.annotations.Options;
 import fr.traqueur.structura.annotations.defaults.DefaultBool;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
 @AutoMetadata("armor-stand")
@@ -18,11 +18,11 @@ public record ArmorStandMetadata(
         @Options(optional = true) @DefaultBool(false) boolean arms,
         @Options(optional = true) @DefaultBool(false) boolean noBasePlate,
         @Options(optional = true) @DefaultBool(false) boolean marker
-) implements ItemMetadata {
+) implements ItemMetadata.MetaBased {
 
     @Override
-    public void apply(ItemStack itemStack, @Nullable Player player) {
-        boolean applied = itemStack.editMeta(ArmorStandMeta.class, armorStandMeta -> {
+    public void apply(ItemMetaTransaction transaction, @Nullable Player player) {
+        boolean applied = transaction.edit(ArmorStandMeta.class, armorStandMeta -> {
             armorStandMeta.setInvisible(invisible);
             armorStandMeta.setSmall(small);
             armorStandMeta.setNoBasePlate(noBasePlate);
@@ -30,7 +30,7 @@ public record ArmorStandMetadata(
             armorStandMeta.setMarker(marker);
         });
         if (!applied) {
-            Logger.severe("Failed to apply ArmorStandMeta to ItemStack of type {}", itemStack.getType().name());
+            Logger.severe("Failed to apply ArmorStandMeta to ItemStack of type {}", transaction.type().name());
         }
     }
 }
@@ -4,12 +4,11 @@ import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.annotations.AutoMetadata;
 import fr.traqueur.items.api.items.BlockDataMeta;
 import fr.traqueur.items.api.items.ItemMetadata;
-import fr.traqueur.items.api.utils.ItemUtil;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import fr.traqueur.structura.annotations.Options;
 import org.bukkit.Bukkit;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
@@ -22,13 +21,13 @@ import java.util.List;
 @AutoMetadata("block-data")
 public record BlockDataMetadata(
         @Options(optional = true) List<BlockDataMeta<?>> settings
-) implements ItemMetadata {
+) implements ItemMetadata.MetaBased {
 
     @Override
-    public void apply(ItemStack itemStack, @Nullable Player player) {
+    public void apply(ItemMetaTransaction transaction, @Nullable Player player) {
 
         // Create BlockData using Bukkit's standard method
-        BlockData blockData = Bukkit.createBlockData(itemStack.getType());
+        BlockData blockData = Bukkit.createBlockData(transaction.type());
 
         // Apply all settings to the BlockData
         if (settings != null && !settings.isEmpty()) {
@@ -38,12 +37,12 @@ public record BlockDataMetadata(
         }
 
         // Apply BlockData to ItemStack using Spigot's standard API
-        boolean apply = ItemUtil.editMeta(itemStack, org.bukkit.inventory.meta.BlockDataMeta.class, meta -> {
+        boolean apply = transaction.edit(org.bukkit.inventory.meta.BlockDataMeta.class, meta -> {
             meta.setBlockData(blockData);
         });
 
         if(!apply){
-            Logger.severe("Failed to apply BlockData to ItemStack of type {}", itemStack.getType().name());
+            Logger.severe("Failed to apply BlockData to ItemStack of type {}", transaction.type().name());
         }
     }
 
@@ -4,11 +4,10 @@ import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.annotations.AutoMetadata;
 import fr.traqueur.items.api.items.BlockStateMeta;
 import fr.traqueur.items.api.items.ItemMetadata;
-import fr.traqueur.items.api.utils.ItemUtil;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import fr.traqueur.structura.annotations.Options;
 import org.bukkit.block.BlockState;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
@@ -31,12 +30,12 @@ import java.util.List;
 @AutoMetadata("block-state")
 public record BlockStateMetadata(
         @Options(optional = true) List<BlockStateMeta<?>> settings
-) implements ItemMetadata {
+) implements ItemMetadata.MetaBased {
 
     @Override
-    public void apply(ItemStack itemStack, @Nullable Player player) {
+    public void apply(ItemMetaTransaction transaction, @Nullable Player player) {
         // Edit the BlockStateMeta of the item
-        boolean applied = ItemUtil.editMeta(itemStack, org.bukkit.inventory.meta.BlockStateMeta.class, meta -> {
+        boolean applied = transaction.edit(org.bukkit.inventory.meta.BlockStateMeta.class, meta -> {
             BlockState blockState = meta.getBlockState();
 
             // Apply all settings to the BlockState
@@ -51,7 +50,7 @@ public record BlockStateMetadata(
         });
 
         if (!applied) {
-            Logger.severe("Failed to apply BlockState to ItemStack of type {}", itemStack.getType().name());
+            Logger.severe("Failed to apply BlockState to ItemStack of type {}", transaction.type().name());
         }
     }
 
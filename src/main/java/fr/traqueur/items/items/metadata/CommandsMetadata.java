@@ -3,6 +3,7 @@ package fr.traqueur.items.items.metadata;
 import fr.traqueur.items.api.annotations.AutoMetadata;
 import fr.traqueur.items.api.interactions.InteractionAction;
 import fr.traqueur.items.api.items.ItemMetadata;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import fr.traqueur.structura.annotations.Options;
 import fr.traqueur.structura.annotations.defaults.DefaultBool;
 import fr.traqueur.structura.annotations.defaults.DefaultLong;
@@ -27,6 +28,9 @@ public record CommandsMetadata(
     @Override
     public void apply(ItemStack itemStack, @Nullable Player player) {}
 
+    @Override
+    public void apply(ItemMetaTransaction transaction, @Nullable Player player) {}
+
 
 
     public record ItemCommand(
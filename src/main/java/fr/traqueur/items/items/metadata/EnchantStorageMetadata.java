@@ -3,20 +3,19 @@ package fr.traqueur.items.items.metadata;
 import fr.traqueur.items.api.annotations.AutoMetadata;
 import fr.traqueur.items.api.items.ItemMetadata;
 import fr.traqueur.items.api.settings.models.EnchantmentWrapper;
-import fr.traqueur.items.api.utils.ItemUtil;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.EnchantmentStorageMeta;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
 @AutoMetadata("enchant-storage")
-public record EnchantStorageMetadata(List<EnchantmentWrapper> enchantments) implements ItemMetadata {
+public record EnchantStorageMetadata(List<EnchantmentWrapper> enchantments) implements ItemMetadata.MetaBased {
 
     @Override
-    public void apply(ItemStack itemStack, @Nullable Player player) {
-        boolean applied = ItemUtil.editMeta(itemStack, EnchantmentStorageMeta.class, meta -> {
+    public void apply(ItemMetaTransaction transaction, @Nullable Player player) {
+        boolean applied = transaction.edit(EnchantmentStorageMeta.class, meta -> {
             for (EnchantmentWrapper enchantment : enchantments) {
                 int level = enchantment.level();
                 if (level < 1) {
@@ -27,7 +26,7 @@ public record EnchantStorageMetadata(List<EnchantmentWrapper> enchantments) impl
             }
         });
         if (!applied) {
-            throw new IllegalStateException("Failed to apply EnchantmentStorageMeta to ItemStack of type " + itemStack.getType().name());
+            throw new IllegalStateException("Failed to apply EnchantmentStorageMeta to ItemStack of type " + transaction.type().name());
         }
     }
 }
@@ -3,10 +3,9 @@ package fr.traqueur.items.items.metadata;
 import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.annotations.AutoMetadata;
 import fr.traqueur.items.api.items.ItemMetadata;
-import fr.traqueur.items.api.utils.ItemUtil;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import org.bukkit.Color;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.LeatherArmorMeta;
 import org.jetbrains.annotations.Nullable;
 
@@ -17,15 +16,15 @@ import org.jetbrains.annotations.Nullable;
 @AutoMetadata("leather-armor")
 public record LeatherArmorMetadata(
         Color color
-) implements ItemMetadata {
+) implements ItemMetadata.MetaBased {
 
     @Override
-    public void apply(ItemStack itemStack, @Nullable Player player) {
-        boolean applied = ItemUtil.editMeta(itemStack, LeatherArmorMeta.class, meta -> {
+    public void apply(ItemMetaTransaction transaction, @Nullable Player player) {
+        boolean applied = transaction.edit(LeatherArmorMeta.class, meta -> {
             meta.setColor(color);
         });
         if (!applied) {
-            Logger.severe("Failed to apply LeatherArmorMeta to ItemStack of type {}", itemStack.getType().name());
+            Logger.severe("Failed to apply LeatherArmorMeta to ItemStack of type {}", transaction.type().name());
         }
     }
 }
\ No newline at end of file
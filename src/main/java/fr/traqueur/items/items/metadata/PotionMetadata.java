@@ -3,12 +3,11 @@ package fr.traqueur.items.items.metadata;
 import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.annotations.AutoMetadata;
 import fr.traqueur.items.api.items.ItemMetadata;
-import fr.traqueur.items.api.utils.ItemUtil;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import fr.traqueur.items.settings.models.PotionEffectWrapper;
 import fr.traqueur.structura.annotations.Options;
 import org.bukkit.Color;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.PotionMeta;
 import org.bukkit.potion.PotionType;
 import org.jetbrains.annotations.Nullable;
@@ -29,11 +28,11 @@ public record PotionMetadata(
 
         @Options(optional = true)
         List<PotionEffectWrapper> customEffects
-) implements ItemMetadata {
+) implements ItemMetadata.MetaBased {
 
     @Override
-    public void apply(ItemStack itemStack, @Nullable Player player) {
-        boolean applied = ItemUtil.editMeta(itemStack, PotionMeta.class, meta -> {
+    public void apply(ItemMetaTransaction transaction, @Nullable Player player) {
+        boolean applied = transaction.edit(PotionMeta.class, meta -> {
             if (color != null) {
                 meta.setColor(color);
             }
@@ -49,7 +48,7 @@ public record PotionMetadata(
             }
         });
         if (!applied) {
-            Logger.severe("Failed to apply PotionMeta to ItemStack of type {}", itemStack.getType().name());
+            Logger.severe("Failed to apply PotionMeta to ItemStack of type {}", transaction.type().name());
         }
     }
 }
\ No newline at end of file
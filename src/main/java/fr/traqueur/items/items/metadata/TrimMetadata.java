@@ -3,9 +3,8 @@ package fr.traqueur.items.items.metadata;
 import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.annotations.AutoMetadata;
 import fr.traqueur.items.api.items.ItemMetadata;
-import fr.traqueur.items.api.utils.ItemUtil;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ArmorMeta;
 import org.bukkit.inventory.meta.trim.ArmorTrim;
 import org.bukkit.inventory.meta.trim.TrimMaterial;
@@ -20,16 +19,16 @@ import org.jetbrains.annotations.Nullable;
 public record TrimMetadata(
         TrimMaterial material,
         TrimPattern pattern
-) implements ItemMetadata {
+) implements ItemMetadata.MetaBased {
 
     @Override
-    public void apply(ItemStack itemStack, @Nullable Player player) {
-        boolean applied = ItemUtil.editMeta(itemStack, ArmorMeta.class, meta -> {
+    public void apply(ItemMetaTransaction transaction, @Nullable Player player) {
+        boolean applied = transaction.edit(ArmorMeta.class, meta -> {
             ArmorTrim trim = new ArmorTrim(material, pattern);
             meta.setTrim(trim);
         });
         if (!applied) {
-            Logger.severe("Failed to apply TrimMetadata to item: " + itemStack.getType().name());
+            Logger.severe("Failed to apply TrimMetadata to item: " + transaction.type().name());
         }
     }
 }
\ No newline at end of file
@@ -2,12 +2,12 @@ package fr.traqueur.items.items.metadata.legacy;
 
 import fr.traqueur.items.api.annotations.AutoMetadata;
 import fr.traqueur.items.api.items.ItemMetadata;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import fr.traqueur.structura.annotations.Options;
 import fr.traqueur.structura.annotations.defaults.DefaultBool;
 import fr.traqueur.structura.annotations.defaults.DefaultDouble;
 import fr.traqueur.structura.annotations.defaults.DefaultInt;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.components.FoodComponent;
 import org.jetbrains.annotations.Nullable;
@@ -26,17 +26,16 @@ public record LegacyFoodMetadata(
         @Options(optional = true)
         @DefaultBool(false)
         boolean canAlwaysEat
-) implements ItemMetadata {
+) implements ItemMetadata.MetaBased {
 
     @Override
-    public void apply(ItemStack itemStack, @Nullable Player player) {
-        ItemMeta meta = itemStack.getItemMeta();
+    public void apply(ItemMetaTransaction transaction, @Nullable Player player) {
+        ItemMeta meta = transaction.meta();
         if (meta == null) return;
         FoodComponent food = meta.getFood();
         food.setNutrition(nutrition);
         food.setSaturation((float) saturation);
         food.setCanAlwaysEat(canAlwaysEat);
         meta.setFood(food);
-        itemStack.setItemMeta(meta);
     }
 }
\ No newline at end of file
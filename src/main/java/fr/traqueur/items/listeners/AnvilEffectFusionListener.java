@@ -4,6 +4,7 @@ import fr.traqueur.items.api.ItemsPlugin;
 import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.effects.Effect;
 import fr.traqueur.items.api.effects.EffectHandler;
+import fr.traqueur.items.api.effects.HandlerDescriptor;
 import fr.traqueur.items.api.managers.EffectsManager;
 import fr.traqueur.items.api.registries.HandlersRegistry;
 import fr.traqueur.items.api.registries.Registry;
@@ -88,14 +89,14 @@ public class AnvilEffectFusionListener implements Listener {
         // Check for incompatibilities between the two items
         HandlersRegistry registry = Registry.get(HandlersRegistry.class);
         for (Effect effect1 : effects1) {
-            EffectHandler<?> handler1 = registry.getById(effect1.type());
+            HandlerDescriptor handler1 = registry.getDescriptor(effect1.type());
             if (handler1 == null) continue;
 
             for (Effect effect2 : effects2) {
-                EffectHandler<?> handler2 = registry.getById(effect2.type());
+                HandlerDescriptor handler2 = registry.getDescriptor(effect2.type());
                 if (handler2 == null) continue;
 
-                if (areEffectsIncompatible(handler1, handler2)) {
+                if (handler1.isIncompatibleWith(handler2)) {
                     // Block the fusion
                     Logger.debug("Blocking anvil fusion due to incompatible effects: {} and {}",
                             effect1.type(), effect2.type());
@@ -154,14 +155,6 @@ public class AnvilEffectFusionListener implements Listener {
         Logger.debug("Anvil fusion completed: merged {} effects from both items", allEffects.size());
     }
 
-    /**
-     * Checks if two effect handlers are incompatible with each other.
-     */
-    private boolean areEffectsIncompatible(EffectHandler<?> handler1, EffectHandler<?> handler2) {
-        return handler1.getIncompatibleHandlers().contains(handler2.getClass()) ||
-               handler2.getIncompatibleHandlers().contains(handler1.getClass());
-    }
-
     /**
      * Calculates the base enchantments of an item without ENCHANTS_APPLICATOR bonuses.
      * This extracts the "real" enchantments by removing the bonus levels added by effects.
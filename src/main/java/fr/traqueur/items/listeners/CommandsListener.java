@@ -6,9 +6,9 @@ import fr.traqueur.items.api.registries.ItemsRegistry;
 import fr.traqueur.items.api.registries.Registry;
 import fr.traqueur.items.items.metadata.CommandsMetadata;
 import fr.traqueur.items.items.metadata.CommandsMetadata.ItemCommand;
-import fr.traqueur.items.serialization.Keys;
 import fr.traqueur.items.api.utils.ItemUtil;
 import fr.traqueur.items.api.utils.MessageUtil;
+import fr.traqueur.items.utils.ItemInspector;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -19,6 +19,7 @@ import org.bukkit.inventory.ItemStack;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -33,12 +34,8 @@ public class CommandsListener implements Listener {
         Player player = event.getPlayer();
         ItemStack itemStack = event.getItem();
 
-        if (itemStack == null || itemStack.getType().isAir()) {
-            return;
-        }
-
         // Get the item ID from persistent data
-        String itemId = Keys.ITEM_ID.get(itemStack.getItemMeta().getPersistentDataContainer()).orElse(null);
+        String itemId = ItemInspector.getItemId(itemStack);
         if (itemId == null) {
             return;
         }
@@ -156,7 +153,7 @@ public class CommandsListener implements Listener {
     }
 
     private String getCooldownKey(ItemStack itemStack, ItemCommand command) {
-        String itemId = Keys.ITEM_ID.get(itemStack.getItemMeta().getPersistentDataContainer()).orElse("unknown");
+        String itemId = Objects.requireNonNullElse(ItemInspector.getItemId(itemStack), "unknown");
         return itemId + "_" + command.hashCode();
     }
 
@@ -9,6 +9,7 @@ import fr.traqueur.items.api.effects.EffectRepresentation;
 import fr.traqueur.items.api.managers.EffectsManager;
 import fr.traqueur.items.api.registries.ApplicatorsRegistry;
 import fr.traqueur.items.api.registries.Registry;
+import fr.traqueur.items.effects.ApplicationResults;
 import fr.traqueur.recipes.api.domains.Ingredient;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -17,6 +18,7 @@ import org.bukkit.event.inventory.PrepareSmithingEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.SmithingInventory;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -53,6 +55,9 @@ public class SmithingTableListener implements Listener {
             return; // Not an effect application
         }
 
+        // The effect recipes only produce a placeholder: never leave it in place, whatever happens below
+        event.setResult(null);
+
         Effect effect = effectsManager.getEffectFromItem(additionItem);
         if (effect == null) {
             Logger.debug("Effect not found for effect item");
@@ -66,46 +71,55 @@ public class SmithingTableListener implements Listener {
             return;
         }
 
+        // The event fires on every item movement: the result is only recomputed when the inputs change.
+        ItemStack result = ApplicationResults.get().getResult(player, ApplicationResults.Station.SMITHING_TABLE,
+                baseItem, additionItem, Collections.singletonList(template),
+                () -> computeResult(player, effect, representation, template, baseItem, additionItem, effectsManager));
+        event.setResult(result);
+    }
+
+    private ItemStack computeResult(Player player, Effect effect, EffectRepresentation representation, ItemStack template,
+                                    ItemStack baseItem, ItemStack additionItem, EffectsManager effectsManager) {
         // Validate template if required
         Ingredient templateIngredient = representation.getTemplateIngredient();
         if (templateIngredient != null) {
             if (template == null || !templateIngredient.isSimilar(template)) {
                 Logger.debug("Invalid template for effect {}", effect.id());
-                return;
+                return null;
             }
         }
 
         // Check if base item is valid
         if (baseItem == null || baseItem.getType().isAir()) {
-            return;
+            return null;
         }
 
         // Get applicator to validate
         ApplicatorsRegistry applicatorsRegistry = Registry.get(ApplicatorsRegistry.class);
         if (applicatorsRegistry == null) {
-            return;
+            return null;
         }
 
         Applicator applicator = applicatorsRegistry.getByEffect(effect);
         if (applicator == null) {
             Logger.debug("Applicator not found for effect {}", effect.id());
-            return;
+            return null;
         }
 
         if (!applicator.canApply(baseItem, List.of(additionItem))) {
             Logger.debug("Cannot apply effect {} to item: validation failed", effect.id());
-            return;
+            return null;
         }
 
         // Clone the base item and apply the effect
         ItemStack result = baseItem.clone();
         EffectApplicationResult applicationResult = effectsManager.applyEffect(player, result, effect);
 
-        if (applicationResult == EffectApplicationResult.SUCCESS) {
-            event.setResult(result);
-            Logger.debug("Effect {} applied via smithing table", effect.id());
-        } else {
+        if (applicationResult != EffectApplicationResult.SUCCESS) {
             Logger.debug("Failed to apply effect {}: {}", effect.id(), applicationResult);
+            return null;
         }
+        Logger.debug("Effect {} applied via smithing table", effect.id());
+        return result;
     }
 }
\ No newline at end of file
@@ -37,7 +37,7 @@ public class StripLogListener implements Listener {
 
         CustomBlockProviderRegistry registry = Registry.get(CustomBlockProviderRegistry.class);
         for (PluginSettings.StripLog strip : settings.stripLogs().strips()) {
-            for (CustomBlockProvider customBlockProvider : registry.getAll()) {
+            for (CustomBlockProvider customBlockProvider : registry.getProviders(block)) {
                 customBlockProvider.getCustomBlockId(block).ifPresent(blockId -> {
                     if (!blockId.equals(strip.from())) return;
                     customBlockProvider.placeCustomBlock(strip.to(), block);
@@ -3,6 +3,7 @@ package fr.traqueur.items.registries;
 import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.blocks.CustomBlockProvider;
 import fr.traqueur.items.api.registries.CustomBlockProviderRegistry;
+import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -12,19 +13,36 @@ import java.util.*;
 /**
  * Implementation of CustomBlockProviderRegistry that iterates through
  * registered providers to find custom block drops.
+ * <p>
+ * The providers to query are resolved per material from the {@link CustomBlockProvider#baseMaterials()}
+ * they declare when registered: blocks of other materials only reach the providers that did not
+ * declare any, and most vanilla blocks reach no provider at all.
  */
 public class ZCustomBlockProviderRegistry implements CustomBlockProviderRegistry {
 
     private final Map<String, CustomBlockProvider> providers;
+    /** Providers to query for each material, in registration order, rebuilt on registration */
+    private volatile Map<Material, List<CustomBlockProvider>> providersByMaterial;
+    /** Providers whose custom blocks may use any material */
+    private volatile List<CustomBlockProvider> unrestrictedProviders;
+    /** Registration name of each provider, for logging */
+    private volatile Map<CustomBlockProvider, String> names;
 
     public ZCustomBlockProviderRegistry() {
         this.providers = new LinkedHashMap<>();
+        this.providersByMaterial = new EnumMap<>(Material.class);
+        this.unrestrictedProviders = List.of();
+        this.names = new IdentityHashMap<>();
     }
 
     @Override
     public void register(String name, CustomBlockProvider provider) {
         this.providers.put(name, provider);
+        this.rebuildIndex();
+        Set<Material> materials = provider.baseMaterials();
         Logger.info("Registered custom block provider: {}", name);
+        Logger.debug("Custom block provider {} is queried for {}.", name,
+                materials == null ? "every material" : materials.size() + " material(s)");
     }
 
     @Override
@@ -40,16 +58,62 @@ public class ZCustomBlockProviderRegistry implements CustomBlockProviderRegistry
     @Override
     public void clear() {
         this.providers.clear();
+        this.rebuildIndex();
         Logger.debug("Cleared all custom block providers.");
     }
 
+    @Override
+    public List<CustomBlockProvider> getProviders(Block block) {
+        return this.getProviders(block.getType());
+    }
+
+    private List<CustomBlockProvider> getProviders(Material material) {
+        return this.providersByMaterial.getOrDefault(material, this.unrestrictedProviders);
+    }
+
+    /**
+     * Builds the providers to query for each material, keeping the registration order.
+     * Materials declared by no provider are absent and resolve to the unrestricted providers.
+     */
+    private void rebuildIndex() {
+        Set<Material> declared = EnumSet.noneOf(Material.class);
+        List<CustomBlockProvider> unrestricted = new ArrayList<>();
+        Map<CustomBlockProvider, String> providerNames = new IdentityHashMap<>();
+        for (Map.Entry<String, CustomBlockProvider> entry : this.providers.entrySet()) {
+            CustomBlockProvider provider = entry.getValue();
+            providerNames.put(provider, entry.getKey());
+            Set<Material> materials = provider.baseMaterials();
+            if (materials == null) {
+                unrestricted.add(provider);
+            } else {
+                declared.addAll(materials);
+            }
+        }
+
+        Map<Material, List<CustomBlockProvider>> byMaterial = new EnumMap<>(Material.class);
+        for (Material material : declared) {
+            List<CustomBlockProvider> candidates = new ArrayList<>();
+            for (CustomBlockProvider provider : this.providers.values()) {
+                Set<Material> materials = provider.baseMaterials();
+                if (materials == null || materials.contains(material)) {
+                    candidates.add(provider);
+                }
+            }
+            byMaterial.put(material, List.copyOf(candidates));
+        }
+
+        this.names = providerNames;
+        this.unrestrictedProviders = List.copyOf(unrestricted);
+        this.providersByMaterial = byMaterial;
+    }
+
     @Override
     public Optional<List<ItemStack>> getCustomBlockDrop(Block block, Player player) {
-        // Iterate through all providers until one returns a drop
-        for (Map.Entry<String, CustomBlockProvider> provider : providers.entrySet()) {
-            Optional<List<ItemStack>> drop = provider.getValue().getCustomBlockDrop(block, player);
+        // Iterate through the providers that may own this block until one returns a drop
+        for (CustomBlockProvider provider : this.getProviders(block)) {
+            Optional<List<ItemStack>> drop = provider.getCustomBlockDrop(block, player);
             if (drop.isPresent()) {
-                Logger.debug("Custom block drop found via provider: {}", provider.getKey());
+                Logger.debug("Custom block drop found via provider: {}", this.names.get(provider));
                 return drop;
             }
         }
@@ -57,4 +121,44 @@ public class ZCustomBlockProviderRegistry implements CustomBlockProviderRegistry
         // No provider recognized this block as custom
         return Optional.empty();
     }
+
+    @Override
+    public Map<Block, List<ItemStack>> getCustomBlockDrops(Collection<Block> blocks, Player player) {
+        Map<Block, List<ItemStack>> drops = new HashMap<>();
+
+        // Group the blocks by the providers that may own them, most blocks need no provider at all
+        Map<List<CustomBlockProvider>, List<Block>> groups = new IdentityHashMap<>();
+        for (Block block : blocks) {
+            List<CustomBlockProvider> candidates = this.getProviders(block);
+            if (!candidates.isEmpty()) {
+                groups.computeIfAbsent(candidates, key -> new ArrayList<>()).add(block);
+            }
+        }
+
+        for (Map.Entry<List<CustomBlockProvider>, List<Block>> group : groups.entrySet()) {
+            List<Block> remaining = group.getValue();
+            for (CustomBlockProvider provider : group.getKey()) {
+                if (remaining.isEmpty()) {
+                    break;
+                }
+                // Keep unclaimed blocks for the next providers
+                int kept = 0;
+                for (Block block : remaining) {
+                    Optional<List<ItemStack>> drop = provider.getCustomBlockDrop(block, player);
+                    if (drop.isPresent()) {
+                        drops.put(block, drop.get());
+                    } else {
+                        remaining.set(kept++, block);
+                    }
+                }
+                int claimed = remaining.size() - kept;
+                remaining.subList(kept, remaining.size()).clear();
+                if (claimed > 0) {
+                    Logger.debug("{} custom block drops found via provider: {}", claimed, this.names.get(provider));
+                }
+            }
+        }
+
+        return drops;
+    }
 }
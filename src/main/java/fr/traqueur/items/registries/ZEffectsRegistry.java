@@ -6,9 +6,13 @@ import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.effects.Applicator;
 import fr.traqueur.items.api.effects.Effect;
 import fr.traqueur.items.api.effects.EffectRepresentation;
+import fr.traqueur.items.api.effects.EffectSettings;
+import fr.traqueur.items.api.effects.EffectsDispatcher;
 import fr.traqueur.items.api.registries.ApplicatorsRegistry;
 import fr.traqueur.items.api.registries.EffectsRegistry;
 import fr.traqueur.items.api.registries.Registry;
+import fr.traqueur.items.api.settings.MaterialFilterSettings;
+import fr.traqueur.items.api.settings.MaterialMatcher;
 import fr.traqueur.items.api.settings.models.IngredientWrapper;
 import fr.traqueur.items.effects.ZEffect;
 import fr.traqueur.recipes.api.domains.Ingredient;
@@ -25,6 +29,33 @@ public class ZEffectsRegistry extends EffectsRegistry {
         super(plugin, ZItems.EFFECTS_FOLDER);
     }
 
+    @Override
+    public void loadFromFolder() {
+        super.loadFromFolder();
+        // Compiled pipelines hold references to the previous effect instances
+        EffectsDispatcher dispatcher = this.plugin.getDispatcher();
+        if (dispatcher != null) {
+            dispatcher.invalidateCache();
+        }
+    }
+
+    @Override
+    protected void onEffectsChanged() {
+        // Pipelines dropped unknown effect IDs and captured the settings of replaced effects
+        EffectsDispatcher dispatcher = this.plugin.getDispatcher();
+        if (dispatcher != null) {
+            dispatcher.invalidateCache();
+        }
+    }
+
+    @Override
+    protected void onUsedTypesChanged() {
+        // Effects registered through the API after enable would otherwise never receive their events
+        ZItems plugin = (ZItems) this.plugin;
+        if (plugin.getEventsListener() != null) {
+            plugin.getEventsListener().refreshDynamicListeners(plugin);
+        }
+    }
 
     @Override
     protected Effect loadFile(Path file) {
@@ -33,6 +64,8 @@ public class ZEffectsRegistry extends EffectsRegistry {
             this.register(effect.id(), effect);
             Logger.debug("Loaded effect: " + effect.id() + " from file: " + file.getFileName());
 
+            compileMatchers(effect);
+
             // Create applicator if effect has representation
             registerApplicator(effect);
 
@@ -43,6 +76,23 @@ public class ZEffectsRegistry extends EffectsRegistry {
         }
     }
 
+    /**
+     * Precompiles the material matchers of the effect settings, so the first
+     * block broken or item checked does not pay for it.
+     *
+     * @param effect the effect to compile matchers for
+     */
+    private void compileMatchers(Effect effect) {
+        EffectSettings settings = effect.settings();
+        if (settings == null) {
+            return;
+        }
+        MaterialMatcher.applicability(settings);
+        if (settings instanceof MaterialFilterSettings filterSettings) {
+            MaterialMatcher.breakable(filterSettings);
+        }
+    }
+
     /**
      * Registers an applicator for the effect if it has a representation.
      *
@@ -8,7 +8,6 @@ import fr.traqueur.items.api.registries.ExtractorsRegistry;
 import fr.traqueur.items.utils.ReflectionsCache;
 import org.bukkit.event.Event;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.reflections.Reflections;
 
 import java.lang.reflect.Modifier;
 import java.util.*;
@@ -61,9 +60,7 @@ public class ZExtractorsRegistry implements ExtractorsRegistry {
         Logger.info("Scanning package <aqua>{}<reset> for ItemSourceExtractors...", packageName);
 
         try {
-            Reflections reflections = ReflectionsCache.getInstance().getOrCreate(plugin, packageName);
-
-            Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(AutoExtractor.class);
+            Set<Class<?>> annotatedClasses = ReflectionsCache.getInstance().getTypesAnnotatedWith(plugin, packageName, AutoExtractor.class);
 
             int count = 0;
             for (Class<?> clazz : annotatedClasses) {
@@ -6,14 +6,17 @@ import fr.traqueur.items.api.Logger;
 import fr.traqueur.items.api.annotations.AutoEffect;
 import fr.traqueur.items.api.effects.EffectHandler;
 import fr.traqueur.items.api.effects.EffectSettings;
+import fr.traqueur.items.api.effects.EffectsDispatcher;
+import fr.traqueur.items.api.effects.HandlerDescriptor;
 import fr.traqueur.items.api.registries.HandlersRegistry;
 import fr.traqueur.items.utils.ReflectionsCache;
 import fr.traqueur.structura.registries.PolymorphicRegistry;
+import org.bukkit.event.Event;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.reflections.Reflections;
 
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of HandlersRegistry that discovers and registers EffectHandlers.
@@ -24,18 +27,29 @@ import java.util.*;
  *   <li>Instantiates handlers via reflection (supports constructors with/without JavaPlugin)</li>
  *   <li>Registers handlers by their effect ID</li>
  *   <li>Manages polymorphic EffectSettings registration via Structura</li>
+ *   <li>Resolves a {@link HandlerDescriptor} once per handler, so hot paths never use reflection</li>
+ *   <li>Maintains an immutable event class → handlers index for dispatching</li>
  * </ul>
  */
 public class ZHandlersRegistry implements HandlersRegistry {
 
     private final ItemsPlugin plugin;
     private final Map<String, EffectHandler<?>> handlers;
+    /** Effect ID → metadata resolved once at registration */
+    private final Map<String, HandlerDescriptor> descriptors;
     private final Set<String> scannedPackages;
+    /** Concrete event class → applicable handlers, resolved lazily from the declared index */
+    private final Map<Class<? extends Event>, List<EffectHandler<?>>> resolvedEventIndex;
+
+    /** Declared event type → applicable handlers, null when stale */
+    private volatile Map<Class<? extends Event>, List<EffectHandler<?>>> eventIndex;
 
     public ZHandlersRegistry(ItemsPlugin plugin) {
         this.plugin = plugin;
         this.handlers = new HashMap<>();
+        this.descriptors = new ConcurrentHashMap<>();
         this.scannedPackages = new HashSet<>();
+        this.resolvedEventIndex = new ConcurrentHashMap<>();
 
         // Create the polymorphic registry for EffectSettings
         PolymorphicRegistry.create(EffectSettings.class, registry -> {
@@ -58,9 +72,7 @@ public class ZHandlersRegistry implements HandlersRegistry {
         Logger.info("Scanning package <aqua>{}<reset> for EffectHandlers...", packageName);
 
         try {
-            Reflections reflections = ReflectionsCache.getInstance().getOrCreate(plugin, packageName);
-
-            Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(AutoEffect.class);
+            Set<Class<?>> annotatedClasses = ReflectionsCache.getInstance().getTypesAnnotatedWith(plugin, packageName, AutoEffect.class);
 
             int count = 0;
             for (Class<?> clazz : annotatedClasses) {
@@ -76,6 +88,9 @@ public class ZHandlersRegistry implements HandlersRegistry {
             }
 
             scannedPackages.add(packageName);
+            if (count > 0) {
+                invalidateDispatcher();
+            }
             Logger.info("Registered <gold>{}<reset> effect handler(s) from package {}.", count, packageName);
 
         } catch (Exception e) {
@@ -88,6 +103,63 @@ public class ZHandlersRegistry implements HandlersRegistry {
         return Collections.unmodifiableSet(scannedPackages);
     }
 
+    @Override
+    public HandlerDescriptor getDescriptor(String effectId) {
+        return effectId == null ? null : this.descriptors.get(effectId);
+    }
+
+    @Override
+    public List<EffectHandler<?>> getHandlersFor(Class<? extends Event> eventClass) {
+        if (eventClass == null) {
+            return List.of();
+        }
+        List<EffectHandler<?>> resolved = this.resolvedEventIndex.get(eventClass);
+        if (resolved != null) {
+            return resolved;
+        }
+        Map<Class<? extends Event>, List<EffectHandler<?>>> index = getEventIndex();
+        return this.resolvedEventIndex.computeIfAbsent(eventClass, cls -> resolveHandlers(index, cls));
+    }
+
+    @Override
+    public Set<Class<? extends Event>> getHandledEventTypes() {
+        return getEventIndex().keySet();
+    }
+
+    @Override
+    public Set<Class<? extends Event>> getHandledEventTypes(Collection<String> effectTypes) {
+        Set<Class<? extends Event>> eventTypes = new HashSet<>();
+        for (String effectType : effectTypes) {
+            HandlerDescriptor descriptor = this.descriptors.get(effectType);
+            if (descriptor != null) {
+                eventTypes.addAll(descriptor.eventTypes());
+            }
+        }
+        return Set.copyOf(eventTypes);
+    }
+
+    @Override
+    public void rebuildEventIndex() {
+        Map<Class<? extends Event>, Set<EffectHandler<?>>> declared = new HashMap<>();
+        for (HandlerDescriptor descriptor : this.descriptors.values()) {
+            for (Class<? extends Event> eventType : descriptor.eventTypes()) {
+                declared.computeIfAbsent(eventType, k -> new LinkedHashSet<>()).add(descriptor.handler());
+            }
+        }
+
+        // Resolve the hierarchy once: a handler declared for a supertype applies to every declared subtype
+        Map<Class<? extends Event>, List<EffectHandler<?>>> index = new HashMap<>();
+        for (Class<? extends Event> eventType : declared.keySet()) {
+            index.put(eventType, resolveHandlers(declared, eventType));
+        }
+
+        this.eventIndex = Map.copyOf(index);
+        this.resolvedEventIndex.clear();
+        invalidateDispatcher();
+
+        Logger.debug("Built handler event index for <gold>{}<reset> event type(s).", index.size());
+    }
+
     @Override
     public void register(String effectId, EffectHandler<?> handler) {
         if (effectId == null || effectId.trim().isEmpty()) {
@@ -105,12 +177,17 @@ public class ZHandlersRegistry implements HandlersRegistry {
                     effectId, handler.getClass().getSimpleName());
         }
 
+        HandlerDescriptor descriptor = HandlerDescriptor.of(effectId, handler);
         this.handlers.put(effectId, handler);
+        this.descriptors.put(effectId, descriptor);
+        this.markEventIndexStale();
         Logger.debug("Registered effect handler: <aqua>{}<reset> -> {}",
                 effectId, handler.getClass().getSimpleName());
 
         // Register the EffectSettings in the polymorphic registry
-        registerHandlerSettings(effectId, handler);
+        registerHandlerSettings(effectId, descriptor);
+
+        invalidateDispatcher();
     }
 
     @Override
@@ -126,9 +203,61 @@ public class ZHandlersRegistry implements HandlersRegistry {
     @Override
     public void clear() {
         this.handlers.clear();
+        this.descriptors.clear();
+        this.markEventIndexStale();
+        invalidateDispatcher();
         Logger.info("Cleared all registered effect handlers.");
     }
 
+    /**
+     * Gets the declared event index, rebuilding it if a registration made it stale.
+     */
+    private Map<Class<? extends Event>, List<EffectHandler<?>>> getEventIndex() {
+        Map<Class<? extends Event>, List<EffectHandler<?>>> index = this.eventIndex;
+        if (index == null) {
+            rebuildEventIndex();
+            index = this.eventIndex;
+        }
+        return index;
+    }
+
+    /**
+     * Marks the event index as stale so it is rebuilt on next access.
+     */
+    private void markEventIndexStale() {
+        this.eventIndex = null;
+        this.resolvedEventIndex.clear();
+    }
+
+    /**
+     * Collects the handlers of every indexed event type assignable from the given class.
+     *
+     * @param index      the index to resolve against
+     * @param eventClass the concrete event class
+     * @return an immutable list of applicable handlers, without duplicates
+     */
+    private static List<EffectHandler<?>> resolveHandlers(Map<Class<? extends Event>, ? extends Collection<EffectHandler<?>>> index,
+                                                          Class<? extends Event> eventClass) {
+        Set<EffectHandler<?>> applicable = new LinkedHashSet<>();
+        for (Map.Entry<Class<? extends Event>, ? extends Collection<EffectHandler<?>>> entry : index.entrySet()) {
+            if (entry.getKey().isAssignableFrom(eventClass)) {
+                applicable.addAll(entry.getValue());
+            }
+        }
+        return List.copyOf(applicable);
+    }
+
+    /**
+     * Drops the dispatcher's compiled pipelines, which reference handler instances.
+     * The dispatcher may not exist yet during early startup.
+     */
+    private void invalidateDispatcher() {
+        EffectsDispatcher dispatcher = this.plugin.getDispatcher();
+        if (dispatcher != null) {
+            dispatcher.invalidateCache();
+        }
+    }
+
     /**
      * Registers a single effect handler class.
      * Tries to instantiate using a constructor with ItemsPlugin parameter first,
@@ -167,12 +296,17 @@ public class ZHandlersRegistry implements HandlersRegistry {
             }
 
             EffectHandler<?> handler = instantiateHandler(clazz);
+            HandlerDescriptor descriptor = HandlerDescriptor.of(effectId, handler);
 
             this.handlers.put(effectId, handler);
-            Logger.debug("Registered effect handler: <aqua>{}<reset> -> {}", effectId, clazz.getSimpleName());
+            this.descriptors.put(effectId, descriptor);
+            this.markEventIndexStale();
+            Logger.debug("Registered effect handler: <aqua>{}<reset> -> {} (settings={}, events={}, priority={})",
+                    effectId, clazz.getSimpleName(), descriptor.settingsType().getSimpleName(),
+                    descriptor.eventTypes().size(), descriptor.priority());
 
             // Register the EffectSettings in the polymorphic registry
-            registerHandlerSettings(effectId, handler);
+            registerHandlerSettings(effectId, descriptor);
 
             return true;
 
@@ -209,8 +343,8 @@ public class ZHandlersRegistry implements HandlersRegistry {
     /**
      * Registers the settings class of a handler in the PolymorphicRegistry.
      */
-    private void registerHandlerSettings(String effectId, EffectHandler<?> handler) {
-        Class<? extends EffectSettings> settingsClass = handler.settingsType();
+    private void registerHandlerSettings(String effectId, HandlerDescriptor descriptor) {
+        Class<? extends EffectSettings> settingsClass = descriptor.settingsType();
         if (settingsClass != null) {
             try {
                 PolymorphicRegistry<EffectSettings> registry = PolymorphicRegistry.get(EffectSettings.class);
@@ -9,7 +9,6 @@ import fr.traqueur.items.api.registries.HooksRegistry;
 import fr.traqueur.items.utils.ReflectionsCache;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.reflections.Reflections;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
@@ -76,8 +75,7 @@ public class ZHooksRegistry implements HooksRegistry {
         Logger.info("Scanning package <aqua>{}<reset> for Hooks...", packageName);
 
         try {
-            Reflections reflections = ReflectionsCache.getInstance().getOrCreate(plugin, packageName);
-            Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(AutoHook.class);
+            Set<Class<?>> annotatedClasses = ReflectionsCache.getInstance().getTypesAnnotatedWith(plugin, packageName, AutoHook.class);
 
             int count = 0;
             for (Class<?> clazz : annotatedClasses) {
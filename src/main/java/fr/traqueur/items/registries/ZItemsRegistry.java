@@ -10,18 +10,18 @@ import fr.traqueur.items.api.annotations.AutoMetadata;
 import fr.traqueur.items.api.items.BlockDataMeta;
 import fr.traqueur.items.api.items.BlockStateMeta;
 import fr.traqueur.items.api.effects.Effect;
-import fr.traqueur.items.api.effects.EffectHandler;
+import fr.traqueur.items.api.effects.HandlerDescriptor;
 import fr.traqueur.items.api.items.Item;
 import fr.traqueur.items.api.items.ItemMetadata;
 import fr.traqueur.items.api.registries.HandlersRegistry;
 import fr.traqueur.items.api.registries.ItemsRegistry;
 import fr.traqueur.items.api.registries.Registry;
+import fr.traqueur.items.items.ItemPrototypes;
 import fr.traqueur.items.items.ZItem;
 import fr.traqueur.items.utils.ReflectionsCache;
 import fr.traqueur.structura.api.Structura;
 import fr.traqueur.structura.exceptions.StructuraException;
 import fr.traqueur.structura.registries.PolymorphicRegistry;
-import org.reflections.Reflections;
 
 import java.nio.file.Path;
 import java.util.*;
@@ -30,10 +30,10 @@ public class ZItemsRegistry extends ItemsRegistry {
 
     public ZItemsRegistry(ItemsPlugin plugin) {
         super(plugin, ZItems.ITEMS_FOLDER);
-        Reflections reflections = ReflectionsCache.getInstance().getOrCreate(plugin, "fr.traqueur.items");
+        ReflectionsCache reflections = ReflectionsCache.getInstance();
 
         PolymorphicRegistry.create(BlockDataMeta.class, registry -> {
-            Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(AutoBlockDataMeta.class);
+            Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(plugin, "fr.traqueur.items", AutoBlockDataMeta.class);
             int count = 0;
             for (Class<?> clazz : annotatedClasses) {
                 if (!BlockDataMeta.class.isAssignableFrom(clazz)) {
@@ -52,7 +52,7 @@ public class ZItemsRegistry extends ItemsRegistry {
         });
 
         PolymorphicRegistry.create(BlockStateMeta.class, registry -> {
-            Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(AutoBlockStateMeta.class);
+            Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(plugin, "fr.traqueur.items", AutoBlockStateMeta.class);
             int count = 0;
             for (Class<?> clazz : annotatedClasses) {
                 if (!BlockStateMeta.class.isAssignableFrom(clazz)) {
@@ -71,7 +71,7 @@ public class ZItemsRegistry extends ItemsRegistry {
         });
 
         PolymorphicRegistry.create(ItemMetadata.class, registry -> {
-            Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(AutoMetadata.class);
+            Set<Class<?>> annotatedClasses = reflections.getTypesAnnotatedWith(plugin, "fr.traqueur.items", AutoMetadata.class);
             int count = 0;
             for (Class<?> clazz : annotatedClasses) {
                 if (!ItemMetadata.class.isAssignableFrom(clazz)) {
@@ -103,10 +103,16 @@ public class ZItemsRegistry extends ItemsRegistry {
 
     }
 
+    @Override
+    public void loadFromFolder() {
+        ItemPrototypes.invalidate();
+        super.loadFromFolder();
+    }
+
     @Override
     protected Item loadFile(Path file) {
         try {
-            Item item = Structura.load(file, ZItem.class);
+            ZItem item = Structura.load(file, ZItem.class);
 
             // Validate effects compatibility before registering
             if (!validateEffectsCompatibility(item, file)) {
@@ -115,6 +121,7 @@ public class ZItemsRegistry extends ItemsRegistry {
                 return null;
             }
 
+            ItemPrototypes.analyze(item);
             this.register(item.id(), item);
             Logger.debug("Loaded item: " + item.id() + " from file: " + file.getFileName());
             return item;
@@ -138,11 +145,11 @@ public class ZItemsRegistry extends ItemsRegistry {
         }
 
         HandlersRegistry registry = Registry.get(HandlersRegistry.class);
-        List<EffectHandler<?>> handlers = new ArrayList<>();
+        List<HandlerDescriptor> handlers = new ArrayList<>();
 
-        // Get all handlers
+        // Get all handler descriptors
         for (Effect effect : effects) {
-            EffectHandler<?> handler = registry.getById(effect.type());
+            HandlerDescriptor handler = registry.getDescriptor(effect.type());
             if (handler == null) {
                 Logger.warning("Handler not found for effect type {} in item {} ({})",
                         effect.type(), item.id(), file.getFileName());
@@ -151,30 +158,17 @@ public class ZItemsRegistry extends ItemsRegistry {
             handlers.add(handler);
         }
 
-        // Check each pair of handlers for incompatibility
+        // Check each pair of handlers for incompatibility, in both directions
         for (int i = 0; i < handlers.size(); i++) {
-            EffectHandler<?> handler1 = handlers.get(i);
-            Set<Class<? extends EffectHandler<?>>> incompatibles1 = handler1.getIncompatibleHandlers();
+            HandlerDescriptor handler1 = handlers.get(i);
 
             for (int j = i + 1; j < handlers.size(); j++) {
-                EffectHandler<?> handler2 = handlers.get(j);
-
-                // Check if handler1 is incompatible with handler2
-                if (incompatibles1.contains(handler2.getClass())) {
+                if (handler1.isIncompatibleWith(handlers.get(j))) {
                     Logger.severe("Incompatible effects in item {} ({}): {} is incompatible with {}",
                             item.id(), file.getFileName(),
                             effects.get(i).type(), effects.get(j).type());
                     return false;
                 }
-
-                // Check if handler2 is incompatible with handler1 (bidirectional check)
-                Set<Class<? extends EffectHandler<?>>> incompatibles2 = handler2.getIncompatibleHandlers();
-                if (incompatibles2.contains(handler1.getClass())) {
-                    Logger.severe("Incompatible effects in item {} ({}): {} is incompatible with {}",
-                            item.id(), file.getFileName(),
-                            effects.get(j).type(), effects.get(i).type());
-                    return false;
-                }
             }
         }
 
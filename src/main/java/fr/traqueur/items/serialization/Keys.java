@@ -35,9 +35,12 @@ public class Keys {
     // MythicMobs spawner type
     public static final DataKey<String> MYTHIC_MOB_TYPE = new DataKey<>(PersistentDataType.STRING);
 
-    // Chunk-level tracked blocks list
+    // Chunk-level tracked blocks list (legacy nested PDC format, read and upgraded on chunk load)
     public static final DataKey<List<TrackedBlock>> TRACKED_BLOCKS = new DataKey<>(PersistentDataType.LIST.listTypeFrom(TrackedBlockDataType.INSTANCE));
 
+    // Chunk-level tracked blocks, compact versioned binary format
+    public static final DataKey<byte[]> TRACKED_BLOCKS_DATA = new DataKey<>(PersistentDataType.BYTE_ARRAY);
+
     private static ItemsPlugin PLUGIN;
 
     private Keys() {
@@ -1,7 +1,9 @@
 package fr.traqueur.items.settings;
 
+import fr.traqueur.items.api.settings.MaterialMatcher;
 import fr.traqueur.items.api.settings.Settings;
 import fr.traqueur.structura.annotations.Options;
+import fr.traqueur.structura.annotations.defaults.DefaultBool;
 import fr.traqueur.structura.annotations.defaults.DefaultInt;
 import fr.traqueur.structura.api.Loadable;
 import org.bukkit.Material;
@@ -14,6 +16,11 @@ public record PluginSettings(
         boolean debug,
         @Options(optional = true) List<String> blockBreakEventPlugins,
         @Options(optional = true) @DefaultInt(-1) int defaultNbEffectsView,
+        @Options(optional = true) @DefaultInt(6000) int blockTrackerFlushInterval,
+        @Options(optional = true) @DefaultInt(4) int blockTrackerFlushBatchSize,
+        @Options(optional = true) @DefaultBool(false) boolean effectDropsToInventory,
+        @Options(optional = true) @DefaultInt(1000) int textCacheTtl,
+        @Options(optional = true) @DefaultInt(2048) int textCacheSize,
         StripLogs stripLogs
 ) implements Settings {
 
@@ -27,16 +34,11 @@ public record PluginSettings(
             List<StripLog> strips
     ) implements Loadable {
 
-        public boolean matchesTool(ItemStack itemStack) {
-            if (materials != null && materials.contains(itemStack.getType())) {
-                return true;
-            }
-
-            if (tags != null && tags.stream().anyMatch(tag -> tag.isTagged(itemStack.getType()))) {
-                return true;
-            }
+        private static final MaterialMatcher.Cache<StripLogs> TOOL_MATCHERS =
+                new MaterialMatcher.Cache<>(stripLogs -> MaterialMatcher.compile(stripLogs.materials(), stripLogs.tags(), false));
 
-            return false;
+        public boolean matchesTool(ItemStack itemStack) {
+            return TOOL_MATCHERS.get(this).matches(itemStack.getType());
         }
     }
 
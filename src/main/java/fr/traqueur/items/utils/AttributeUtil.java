@@ -4,6 +4,7 @@ import fr.traqueur.items.api.ItemsPlugin;
 import fr.traqueur.items.api.PlatformType;
 import fr.traqueur.items.api.settings.models.AttributeMergeStrategy;
 import fr.traqueur.items.api.settings.models.AttributeWrapper;
+import fr.traqueur.items.api.utils.ItemMetaTransaction;
 import fr.traqueur.items.api.utils.ItemUtil;
 import io.papermc.paper.datacomponent.DataComponentTypes;
 import io.papermc.paper.datacomponent.item.ItemAttributeModifiers;
@@ -50,6 +51,31 @@ public final class AttributeUtil {
         }
     }
 
+    /**
+     * Applies a list of attribute wrappers within a meta transaction.
+     * On Spigot the modifiers are written to the open meta, on Paper the pending meta is
+     * committed first since attributes are written as a data component.
+     *
+     * @param transaction the open meta transaction of the item
+     * @param attributes the list of attribute wrappers to apply
+     * @param plugin the plugin instance
+     * @param strategy the strategy to use when merging with existing attributes
+     */
+    public static void applyAttributes(ItemMetaTransaction transaction, List<AttributeWrapper> attributes, ItemsPlugin plugin, AttributeMergeStrategy strategy) {
+        if (attributes == null || attributes.isEmpty()) {
+            return;
+        }
+
+        if (PlatformType.isPaper()) {
+            applyAttributesModern(transaction.itemStack(), attributes, plugin, strategy);
+        } else {
+            ItemMeta meta = transaction.meta();
+            if (meta != null) {
+                applyAttributesLegacy(meta, attributes, plugin, strategy);
+            }
+        }
+    }
+
     /**
      * Applies attributes using Paper's DataComponent API with a merge strategy.
      *
@@ -98,39 +124,41 @@ public final class AttributeUtil {
      * @param strategy the merge strategy to use
      */
     public static void applyAttributesLegacy(ItemStack itemStack, List<AttributeWrapper> attributes, ItemsPlugin plugin, AttributeMergeStrategy strategy) {
-        ItemUtil.editMeta(itemStack, ItemMeta.class, meta -> {
-            // Get existing modifiers
-            List<AttributeEntry> existingEntries = new ArrayList<>();
-            if (meta.hasAttributeModifiers()) {
-                for (Attribute attr : Attribute.values()) {
-                    var modifiers = meta.getAttributeModifiers(attr);
-                    if (modifiers != null && !modifiers.isEmpty()) {
-                        for (AttributeModifier modifier : modifiers) {
-                            existingEntries.add(new AttributeEntry(attr, modifier));
-                        }
+        ItemUtil.editMeta(itemStack, ItemMeta.class, meta -> applyAttributesLegacy(meta, attributes, plugin, strategy));
+    }
+
+    private static void applyAttributesLegacy(ItemMeta meta, List<AttributeWrapper> attributes, ItemsPlugin plugin, AttributeMergeStrategy strategy) {
+        // Get existing modifiers
+        List<AttributeEntry> existingEntries = new ArrayList<>();
+        if (meta.hasAttributeModifiers()) {
+            for (Attribute attr : Attribute.values()) {
+                var modifiers = meta.getAttributeModifiers(attr);
+                if (modifiers != null && !modifiers.isEmpty()) {
+                    for (AttributeModifier modifier : modifiers) {
+                        existingEntries.add(new AttributeEntry(attr, modifier));
                     }
                 }
             }
+        }
 
-            // Create list of new modifiers
-            List<AttributeEntry> newEntries = new ArrayList<>();
-            for (AttributeWrapper wrapper : attributes) {
-                AttributeModifier modifier = wrapper.toAttributeModifier(plugin);
-                newEntries.add(new AttributeEntry(wrapper.attribute(), modifier));
-            }
+        // Create list of new modifiers
+        List<AttributeEntry> newEntries = new ArrayList<>();
+        for (AttributeWrapper wrapper : attributes) {
+            AttributeModifier modifier = wrapper.toAttributeModifier(plugin);
+            newEntries.add(new AttributeEntry(wrapper.attribute(), modifier));
+        }
 
-            // Apply strategy
-            List<AttributeEntry> resultEntries = mergeAttributes(existingEntries, newEntries, strategy);
+        // Apply strategy
+        List<AttributeEntry> resultEntries = mergeAttributes(existingEntries, newEntries, strategy);
 
-            // Clear existing and apply merged modifiers
-            for (Attribute attr : Attribute.values()) {
-                meta.removeAttributeModifier(attr);
-            }
+        // Clear existing and apply merged modifiers
+        for (Attribute attr : Attribute.values()) {
+            meta.removeAttributeModifier(attr);
+        }
 
-            for (AttributeEntry entry : resultEntries) {
-                meta.addAttributeModifier(entry.attribute, entry.modifier);
-            }
-        });
+        for (AttributeEntry entry : resultEntries) {
+            meta.addAttributeModifier(entry.attribute, entry.modifier);
+        }
     }
 
     /**
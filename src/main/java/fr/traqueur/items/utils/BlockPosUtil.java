@@ -0,0 +1,39 @@
+package fr.traqueur.items.utils;
+
+import org.bukkit.block.Block;
+
+/**
+ * Packs world block coordinates into a single long, so positions can be stored in
+ * primitive collections instead of allocating {@link Block} objects.
+ * <p>
+ * Layout: X on bits 38-63 (26 bits), Z on bits 12-37 (26 bits), Y on bits 0-11 (12 bits),
+ * each coordinate stored as signed two's complement. This covers the whole world border
+ * and every supported build height.
+ */
+public class BlockPosUtil {
+
+    private BlockPosUtil() {
+        //Utility Class
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | ((long) y & 0xFFFL);
+    }
+
+    public static long pack(Block block) {
+        return pack(block.getX(), block.getY(), block.getZ());
+    }
+
+    public static int unpackX(long pos) {
+        return (int) (pos >> 38);
+    }
+
+    public static int unpackY(long pos) {
+        return (int) (pos << 52 >> 52);
+    }
+
+    public static int unpackZ(long pos) {
+        return (int) (pos << 26 >> 38);
+    }
+
+}
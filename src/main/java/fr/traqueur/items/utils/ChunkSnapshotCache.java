@@ -0,0 +1,172 @@
+package fr.traqueur.items.utils;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+/**
+ * Reads block types for the duration of a single traversal, through chunk snapshots once it is large enough.
+ * <p>
+ * Snapshotting a chunk copies all of its sections, which costs more than the few reads of a small
+ * traversal (a common ore vein only visits a few hundred positions). The first lookups therefore read
+ * the live world through {@link World#getType(int, int, int)}; past {@link #DEFAULT_LIVE_READS} lookups,
+ * each loaded chunk is snapshotted once and every type lookup in it is an array read. Neither path
+ * creates a {@link org.bukkit.block.Block}.
+ * Snapshots are kept in a primitive long-keyed table, so switching chunks does not box.
+ * <p>
+ * Unloaded chunks are never loaded: lookups in them return null. Snapshots are not refreshed,
+ * so an instance must not outlive the tick it was created in.
+ */
+public final class ChunkSnapshotCache {
+
+    /** Lookups served from the live world before chunks are snapshotted */
+    public static final int DEFAULT_LIVE_READS = 256;
+    private static final int MIN_CAPACITY = 8;
+
+    private final World world;
+    private final int minHeight;
+    private final int maxHeight;
+    private int liveReads;
+
+    // Open-addressing table of the snapshots by chunk key, a null snapshot marks a free slot
+    private long[] keys;
+    private ChunkSnapshot[] snapshots;
+    private int size;
+
+    // Last chunk accessed, traversals mostly stay in the same chunk
+    private long lastKey;
+    private ChunkSnapshot lastSnapshot;
+
+    public ChunkSnapshotCache(World world) {
+        this(world, DEFAULT_LIVE_READS);
+    }
+
+    /**
+     * Creates a cache snapshotting chunks after the given number of lookups.
+     *
+     * @param world     the world to read
+     * @param liveReads the number of lookups read from the live world before snapshotting chunks
+     */
+    public ChunkSnapshotCache(World world, int liveReads) {
+        this.world = world;
+        this.minHeight = world.getMinHeight();
+        this.maxHeight = world.getMaxHeight();
+        this.liveReads = liveReads;
+        this.keys = new long[MIN_CAPACITY];
+        this.snapshots = new ChunkSnapshot[MIN_CAPACITY];
+    }
+
+    /**
+     * Gets the type of the block at the given world coordinates.
+     *
+     * @return the block type, or null if outside the world height or in an unloaded chunk
+     */
+    public Material getType(int x, int y, int z) {
+        if (y < minHeight || y >= maxHeight) {
+            return null;
+        }
+        if (readLive()) {
+            return world.isChunkLoaded(x >> 4, z >> 4) ? world.getType(x, y, z) : null;
+        }
+        ChunkSnapshot snapshot = getSnapshot(x >> 4, z >> 4);
+        return snapshot == null ? null : snapshot.getBlockType(x & 0xF, y, z & 0xF);
+    }
+
+    /**
+     * Gets the data of the block at the given world coordinates.
+     *
+     * @return the block data, or null if outside the world height or in an unloaded chunk
+     */
+    public BlockData getBlockData(int x, int y, int z) {
+        if (y < minHeight || y >= maxHeight) {
+            return null;
+        }
+        if (readLive()) {
+            return world.isChunkLoaded(x >> 4, z >> 4) ? world.getBlockData(x, y, z) : null;
+        }
+        ChunkSnapshot snapshot = getSnapshot(x >> 4, z >> 4);
+        return snapshot == null ? null : snapshot.getBlockData(x & 0xF, y, z & 0xF);
+    }
+
+    /**
+     * Gets the type of the block at a packed position (see {@link BlockPosUtil}).
+     */
+    public Material getType(long pos) {
+        return getType(BlockPosUtil.unpackX(pos), BlockPosUtil.unpackY(pos), BlockPosUtil.unpackZ(pos));
+    }
+
+    /**
+     * Gets the number of chunks snapshotted so far.
+     */
+    public int size() {
+        return size;
+    }
+
+    private boolean readLive() {
+        if (liveReads > 0) {
+            liveReads--;
+            return true;
+        }
+        return false;
+    }
+
+    private ChunkSnapshot getSnapshot(int chunkX, int chunkZ) {
+        long key = ChunkUtil.getChunkKey(chunkX, chunkZ);
+        if (lastSnapshot != null && lastKey == key) {
+            return lastSnapshot;
+        }
+        int slot = slotOf(key);
+        ChunkSnapshot snapshot = snapshots[slot];
+        if (snapshot == null) {
+            if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                return null;
+            }
+            snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false);
+            put(slot, key, snapshot);
+        }
+        lastKey = key;
+        lastSnapshot = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Gets the slot holding a key, or the free slot where it belongs.
+     */
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (snapshots[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void put(int slot, long key, ChunkSnapshot snapshot) {
+        keys[slot] = key;
+        snapshots[slot] = snapshot;
+        size++;
+        if (size * 4 > keys.length * 3) {
+            resize(keys.length << 1);
+        }
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = keys;
+        ChunkSnapshot[] oldSnapshots = snapshots;
+        keys = new long[newCapacity];
+        snapshots = new ChunkSnapshot[newCapacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldSnapshots[i] != null) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                snapshots[slot] = oldSnapshots[i];
+            }
+        }
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
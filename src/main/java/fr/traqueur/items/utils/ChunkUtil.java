@@ -12,7 +12,11 @@ public class ChunkUtil {
     }
 
     public static long getChunkKey(Chunk chunk) {
-        return (long) chunk.getX() & 0xffffffffL | ((long) chunk.getZ() & 0xffffffffL) << 32;
+        return getChunkKey(chunk.getX(), chunk.getZ());
+    }
+
+    public static long getChunkKey(int chunkX, int chunkZ) {
+        return (long) chunkX & 0xffffffffL | ((long) chunkZ & 0xffffffffL) << 32;
     }
 
 }
@@ -0,0 +1,103 @@
+package fr.traqueur.items.utils;
+
+import fr.traqueur.items.api.Logger;
+import fr.traqueur.items.api.annotations.processor.AutoIndexProcessor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Annotated classes listed at build time by {@link AutoIndexProcessor}.
+ * <p>
+ * A class loader may see several index resources (one per module merged into the jar, or one per
+ * jar); all of them are read. Entries are only class names: classes are loaded on lookup, without
+ * initialization, and classes that cannot be linked (e.g. a hook whose plugin is missing) are skipped.
+ */
+public final class ClassIndex {
+
+    /** Annotation name → annotated class names */
+    private final Map<String, List<String>> entries;
+
+    private ClassIndex(Map<String, List<String>> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Reads every index visible to a class loader.
+     *
+     * @param classLoader the class loader
+     * @return the index, or null if the class loader has no index
+     */
+    public static ClassIndex load(ClassLoader classLoader) {
+        Map<String, List<String>> entries = new HashMap<>();
+        int resourceCount = 0;
+        try {
+            Enumeration<URL> resources = classLoader.getResources(AutoIndexProcessor.INDEX_PATH);
+            while (resources.hasMoreElements()) {
+                resourceCount++;
+                read(resources.nextElement(), entries);
+            }
+        } catch (IOException e) {
+            Logger.warning("Failed to read the annotation index, falling back to classpath scanning: {}", e.getMessage());
+            return null;
+        }
+        if (resourceCount == 0) {
+            return null;
+        }
+
+        // An index is trusted as complete, so a short one (e.g. from an incremental build) must be visible
+        StringJoiner counts = new StringJoiner(", ");
+        new TreeMap<>(entries).forEach((annotation, classNames) ->
+                counts.add("@" + annotation.substring(annotation.lastIndexOf('.') + 1) + " <gold>" + classNames.size() + "<reset>"));
+        Logger.info("Loaded <gold>{}<reset> annotation index resource(s): {}.", resourceCount, counts.length() == 0 ? "empty" : counts);
+        return new ClassIndex(entries);
+    }
+
+    private static void read(URL resource, Map<String, List<String>> entries) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int separator = line.indexOf('\t');
+                if (separator <= 0) {
+                    continue;
+                }
+                entries.computeIfAbsent(line.substring(0, separator), key -> new ArrayList<>())
+                        .add(line.substring(separator + 1));
+            }
+        }
+    }
+
+    /**
+     * Gets the indexed classes annotated with an annotation, in a package or its subpackages.
+     *
+     * @param annotation  the annotation
+     * @param packageName the package
+     * @param classLoader the class loader used to load the classes
+     * @return the annotated classes that could be loaded
+     */
+    public Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation, String packageName, ClassLoader classLoader) {
+        List<String> classNames = this.entries.getOrDefault(annotation.getName(), List.of());
+        String prefix = packageName + ".";
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String className : classNames) {
+            if (!className.startsWith(prefix)) {
+                continue;
+            }
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                Logger.debug("Skipping indexed class <yellow>{}<reset>: {}", className, e.toString());
+            }
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,54 @@
+package fr.traqueur.items.utils;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class DropUtil {
+
+    private DropUtil() {
+        //Utility Class
+    }
+
+    /**
+     * Merges similar drops into as few stacks as possible, never exceeding the max stack size.
+     * Null, air and empty stacks are discarded. Input stacks are not modified.
+     *
+     * @param drops the drops to merge
+     * @return the merged stacks, in order of first appearance
+     */
+    public static List<ItemStack> merge(Collection<ItemStack> drops) {
+        List<ItemStack> merged = new ArrayList<>();
+        for (ItemStack drop : drops) {
+            if (drop == null || drop.getType().isAir() || drop.getAmount() <= 0) {
+                continue;
+            }
+
+            int remaining = drop.getAmount();
+            for (ItemStack stack : merged) {
+                int space = stack.getMaxStackSize() - stack.getAmount();
+                if (space > 0 && stack.isSimilar(drop)) {
+                    int moved = Math.min(space, remaining);
+                    stack.setAmount(stack.getAmount() + moved);
+                    remaining -= moved;
+                    if (remaining == 0) {
+                        break;
+                    }
+                }
+            }
+
+            int maxStackSize = Math.max(1, drop.getMaxStackSize());
+            while (remaining > 0) {
+                ItemStack stack = drop.clone();
+                int amount = Math.min(remaining, maxStackSize);
+                stack.setAmount(amount);
+                merged.add(stack);
+                remaining -= amount;
+            }
+        }
+        return merged;
+    }
+
+}
@@ -1,33 +1,65 @@
 package fr.traqueur.items.utils;
 
 import fr.traqueur.items.api.Logger;
+import fr.traqueur.items.api.blocks.AreaAccess;
 import fr.traqueur.items.api.blocks.LocationAccess;
 import fr.traqueur.items.api.registries.LocationAccessRegistry;
 import fr.traqueur.items.api.registries.Registry;
 import fr.traqueur.items.api.settings.Settings;
 import fr.traqueur.items.settings.PluginSettings;
 import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.RegisteredListener;
+import org.bukkit.util.BoundingBox;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 public class EventUtil {
 
+    /** Listeners of the allowed plugins, per handler list (handler lists compare by identity) */
+    private static final Map<HandlerList, FilteredListeners> FILTERED_LISTENERS = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether synthetic events are forwarded to any plugin, as configured by
+     * {@link PluginSettings#blockBreakEventPlugins()}. When false, {@link #fireEvent(Event, HandlerList)}
+     * always succeeds and callers can skip building events.
+     *
+     * @return true if some plugins receive synthetic events
+     */
+    public static boolean isForwardingEvents() {
+        List<String> allowedPlugins = Settings.get(PluginSettings.class).blockBreakEventPlugins();
+        return allowedPlugins != null && !allowedPlugins.isEmpty();
+    }
+
+    /**
+     * Calls the listeners of the plugins configured in {@link PluginSettings#blockBreakEventPlugins()}
+     * for a synthetic event.
+     * <p>
+     * The listeners of those plugins are filtered once per {@link HandlerList} and reused until the
+     * handler list is re-baked (a listener was registered or unregistered) or the settings are reloaded.
+     *
+     * @param event    the event
+     * @param handlers the handler list of the event
+     * @return false if the event was cancelled
+     */
     public static boolean fireEvent(Event event, HandlerList handlers) {
         List<String> allowedPlugins = Settings.get(PluginSettings.class).blockBreakEventPlugins();
         if (allowedPlugins == null || allowedPlugins.isEmpty()) {
             return true;
         }
-        RegisteredListener[] listeners = handlers.getRegisteredListeners();
-        ;
-        for (RegisteredListener listener : listeners) {
-            if (!allowedPlugins.contains(listener.getPlugin().getName())) {
-                continue;
-            }
+        for (RegisteredListener listener : getAllowedListeners(handlers, allowedPlugins)) {
             try {
                 listener.callEvent(event);
             } catch (Exception e) {
@@ -40,6 +72,27 @@ public class EventUtil {
         return true;
     }
 
+    private static RegisteredListener[] getAllowedListeners(HandlerList handlers, List<String> allowedPlugins) {
+        // The baked array is the same instance until the handler list changes, and the
+        // settings list is a new instance after each reload
+        RegisteredListener[] baked = handlers.getRegisteredListeners();
+        FilteredListeners filtered = FILTERED_LISTENERS.get(handlers);
+        if (filtered != null && filtered.baked() == baked && filtered.allowedPlugins() == allowedPlugins) {
+            return filtered.listeners();
+        }
+
+        Set<String> allowed = new HashSet<>(allowedPlugins);
+        List<RegisteredListener> listeners = new ArrayList<>();
+        for (RegisteredListener listener : baked) {
+            if (allowed.contains(listener.getPlugin().getName())) {
+                listeners.add(listener);
+            }
+        }
+        filtered = new FilteredListeners(baked, allowedPlugins, listeners.toArray(new RegisteredListener[0]));
+        FILTERED_LISTENERS.put(handlers, filtered);
+        return filtered.listeners();
+    }
+
     /**
      * Checks if a player can break a block at the given location.
      * This method checks all registered LocationAccess hooks.
@@ -60,4 +113,74 @@ public class EventUtil {
         return true; // All hooks allow access
     }
 
+    /**
+     * Checks if a player can break the blocks of an area.
+     * <p>
+     * Every registered location access hook is asked once for the whole area. Only the hooks that
+     * cannot answer for the whole area ({@link AreaAccess#MIXED}) are asked again for each block
+     * checked with the returned predicate.
+     *
+     * @param player the player attempting to break the blocks
+     * @param world  the world of the area
+     * @param area   the area containing the blocks, see {@link #areaOf(Collection)}
+     * @return a predicate telling whether the player can break the block at a location of the area
+     */
+    public static Predicate<Location> canBreakArea(Player player, World world, BoundingBox area) {
+        LocationAccessRegistry registry = Registry.get(LocationAccessRegistry.class);
+        List<LocationAccess> mixed = new ArrayList<>();
+        for (LocationAccess access : registry.getAll()) {
+            switch (access.canBuildArea(player, world, area)) {
+                case DENIED -> {
+                    return location -> false;
+                }
+                case MIXED -> mixed.add(access);
+                case ALLOWED -> {
+                }
+            }
+        }
+
+        if (mixed.isEmpty()) {
+            return location -> true;
+        }
+        return location -> {
+            for (LocationAccess access : mixed) {
+                if (!access.hasAccess(player, location)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Gets the smallest area containing the given blocks.
+     *
+     * @param blocks the blocks, must not be empty
+     * @return the area
+     */
+    public static BoundingBox areaOf(Collection<Block> blocks) {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (Block block : blocks) {
+            minX = Math.min(minX, block.getX());
+            minY = Math.min(minY, block.getY());
+            minZ = Math.min(minZ, block.getZ());
+            maxX = Math.max(maxX, block.getX());
+            maxY = Math.max(maxY, block.getY());
+            maxZ = Math.max(maxZ, block.getZ());
+        }
+        return new BoundingBox(minX, minY, minZ, maxX + 1, maxY + 1, maxZ + 1);
+    }
+
+    /**
+     * Listeners of a handler list registered by the allowed plugins.
+     *
+     * @param baked          the baked listeners of the handler list the filter was computed from
+     * @param allowedPlugins the allowed plugins the filter was computed from
+     * @param listeners      the listeners registered by the allowed plugins, in call order
+     */
+    private record FilteredListeners(RegisteredListener[] baked, List<String> allowedPlugins,
+                                     RegisteredListener[] listeners) {
+    }
+
 }
@@ -0,0 +1,80 @@
+package fr.traqueur.items.utils;
+
+import fr.traqueur.items.api.PlatformType;
+import fr.traqueur.items.serialization.Keys;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Read-only inspection of the zItems data carried by an item.
+ * <p>
+ * {@link ItemStack#getItemMeta()} clones the whole meta, which is wasted on hot paths that only
+ * need to know whether an item carries an ID or effects. The inspector short-circuits on null, air
+ * and items without meta, and on Paper reads the item's read-only PDC view, which clones nothing.
+ * Spigot has no such view and falls back to the meta.
+ * <p>
+ * Only reads are supported: writes still go through the meta (see {@link fr.traqueur.items.api.utils.ItemMetaTransaction}).
+ */
+public final class ItemInspector {
+
+    private ItemInspector() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Checks whether an item cannot carry zItems data: null, air or without meta.
+     *
+     * @param item the item
+     * @return true if the item has no data to inspect
+     */
+    public static boolean isPlain(@Nullable ItemStack item) {
+        return item == null || item.getType().isAir() || !item.hasItemMeta();
+    }
+
+    /**
+     * Gets the custom item ID of an item.
+     *
+     * @param item the item
+     * @return the item ID, or null if the item is not a custom item
+     */
+    public static @Nullable String getItemId(@Nullable ItemStack item) {
+        return read(item, Keys.ITEM_ID.getNamespacedKey(), PersistentDataType.STRING);
+    }
+
+    /**
+     * Gets the IDs of the effects applied to an item, without resolving them.
+     *
+     * @param item the item
+     * @return the effect IDs, or null if the item has no effects
+     */
+    public static @Nullable List<String> getEffectIds(@Nullable ItemStack item) {
+        List<String> effectIds = read(item, Keys.EFFECTS.getNamespacedKey(), PersistentDataType.LIST.strings());
+        return effectIds == null || effectIds.isEmpty() ? null : effectIds;
+    }
+
+    /**
+     * Checks whether an item has at least one effect.
+     *
+     * @param item the item
+     * @return true if the item has effects
+     */
+    public static boolean hasEffects(@Nullable ItemStack item) {
+        return getEffectIds(item) != null;
+    }
+
+    private static <T> @Nullable T read(@Nullable ItemStack item, NamespacedKey key, PersistentDataType<?, T> type) {
+        if (isPlain(item)) {
+            return null;
+        }
+        if (PlatformType.isPaper()) {
+            return item.getPersistentDataContainer().get(key, type);
+        }
+        ItemMeta meta = item.getItemMeta();
+        return meta == null ? null : meta.getPersistentDataContainer().get(key, type);
+    }
+}
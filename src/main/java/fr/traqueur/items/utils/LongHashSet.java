@@ -0,0 +1,110 @@
+package fr.traqueur.items.utils;
+
+import java.util.Arrays;
+
+/**
+ * Minimal open-addressing set of primitive longs, used for traversals over
+ * packed block positions (see {@link BlockPosUtil}) without boxing.
+ * <p>
+ * Only supports insertion and lookup: traversal sets are short-lived and never shrink.
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private boolean[] used;
+    private int size;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3 < expectedSize * 4) {
+            capacity <<= 1;
+        }
+        this.keys = new long[capacity];
+        this.used = new boolean[capacity];
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value
+     * @return true if the value was not already present
+     */
+    public boolean add(long value) {
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length << 1);
+        }
+        int mask = keys.length - 1;
+        int slot = mix(value) & mask;
+        while (used[slot]) {
+            if (keys[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        used[slot] = true;
+        size++;
+        return true;
+    }
+
+    /**
+     * Checks whether a value is present.
+     *
+     * @param value the value
+     * @return true if present
+     */
+    public boolean contains(long value) {
+        int mask = keys.length - 1;
+        int slot = mix(value) & mask;
+        while (used[slot]) {
+            if (keys[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = keys;
+        boolean[] oldUsed = used;
+        keys = new long[newCapacity];
+        used = new boolean[newCapacity];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!oldUsed[i]) {
+                continue;
+            }
+            int slot = mix(oldKeys[i]) & mask;
+            while (used[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            used[slot] = true;
+        }
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
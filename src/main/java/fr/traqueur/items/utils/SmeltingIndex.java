@@ -0,0 +1,182 @@
+package fr.traqueur.items.utils;
+
+import fr.traqueur.items.api.Logger;
+import io.papermc.paper.event.server.ServerResourcesReloadedEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.ServerLoadEvent;
+import org.bukkit.inventory.BlastingRecipe;
+import org.bukkit.inventory.CookingRecipe;
+import org.bukkit.inventory.FurnaceRecipe;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.Recipe;
+import org.bukkit.inventory.RecipeChoice;
+import org.bukkit.inventory.SmokingRecipe;
+
+import java.util.*;
+
+/**
+ * Smelting result of every material, from the furnace, blast furnace and smoker recipes of the server.
+ * <p>
+ * The index is built in one pass over the recipes and published as an immutable map, so lookups
+ * need no locking. Every item material has an entry: materials that cannot be smelted map to
+ * {@link Smelting#NONE}. When several recipes accept a material, furnace recipes win over blast
+ * furnace recipes, which win over smoker recipes, and recipes registered first win within a type.
+ * <p>
+ * The index is rebuilt once zItems registered its recipes, when the server finished loading
+ * (recipes added by plugins enabled after zItems), when the server resources are reloaded on Paper,
+ * and on zItems reload.
+ */
+public class SmeltingIndex implements Listener {
+
+    private static final SmeltingIndex INSTANCE = new SmeltingIndex();
+    private static final List<Class<? extends CookingRecipe<?>>> RECIPE_TYPES =
+            List.of(FurnaceRecipe.class, BlastingRecipe.class, SmokingRecipe.class);
+
+    public static SmeltingIndex get() {
+        return INSTANCE;
+    }
+
+    private volatile Map<Material, Smelting> index;
+
+    private SmeltingIndex() {
+        this.index = Collections.unmodifiableMap(new EnumMap<>(Material.class));
+    }
+
+    /**
+     * Gets the smelting result of a material.
+     *
+     * @param material the material
+     * @return the smelting result, or {@link Smelting#NONE} if the material cannot be smelted
+     */
+    public Smelting getSmelting(Material material) {
+        return index.getOrDefault(material, Smelting.NONE);
+    }
+
+    /**
+     * Rebuilds the index from the recipes currently registered on the server.
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        // Indexed by position in RECIPE_TYPES, each list in registration order
+        List<List<CookingRecipe<?>>> recipesByType = new ArrayList<>();
+        RECIPE_TYPES.forEach(type -> recipesByType.add(new ArrayList<>()));
+        Iterator<Recipe> recipeIterator = Bukkit.recipeIterator();
+        while (recipeIterator.hasNext()) {
+            Recipe recipe = recipeIterator.next();
+            for (int i = 0; i < RECIPE_TYPES.size(); i++) {
+                if (RECIPE_TYPES.get(i).isInstance(recipe)) {
+                    recipesByType.get(i).add((CookingRecipe<?>) recipe);
+                    break;
+                }
+            }
+        }
+
+        Map<Material, Smelting> smeltings = new EnumMap<>(Material.class);
+        int recipes = 0;
+        for (List<CookingRecipe<?>> typeRecipes : recipesByType) {
+            for (CookingRecipe<?> recipe : typeRecipes) {
+                index(recipe, smeltings);
+                recipes++;
+            }
+        }
+        int smeltable = smeltings.size();
+
+        for (Material material : Material.values()) {
+            if (!material.isLegacy() && material.isItem()) {
+                smeltings.putIfAbsent(material, Smelting.NONE);
+            }
+        }
+        this.index = Collections.unmodifiableMap(smeltings);
+
+        Logger.debug("Smelting index built from <gold>{}<reset> recipes: <gold>{}<reset> smeltable materials in <gold>{}ms<reset>.",
+                recipes, smeltable, System.currentTimeMillis() - start);
+    }
+
+    private void index(CookingRecipe<?> recipe, Map<Material, Smelting> smeltings) {
+        Smelting smelting = null;
+        RecipeChoice choice = recipe.getInputChoice();
+        if (choice instanceof RecipeChoice.MaterialChoice materialChoice) {
+            for (Material material : materialChoice.getChoices()) {
+                if (!smeltings.containsKey(material)) {
+                    smelting = smelting != null ? smelting : Smelting.of(recipe);
+                    smeltings.put(material, smelting);
+                }
+            }
+        } else if (choice instanceof RecipeChoice.ExactChoice exactChoice) {
+            // Block drops are plain items: only exact choices accepting the plain item of a material apply
+            for (ItemStack item : exactChoice.getChoices()) {
+                Material material = item.getType();
+                if (!smeltings.containsKey(material) && exactChoice.test(new ItemStack(material))) {
+                    smelting = smelting != null ? smelting : Smelting.of(recipe);
+                    smeltings.put(material, smelting);
+                }
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onServerLoad(ServerLoadEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Creates the listener for server resources reloads, which replace the data pack recipes. Paper only.
+     *
+     * @return the listener
+     */
+    public Listener paperListener() {
+        return new PaperListener();
+    }
+
+    /**
+     * Result of smelting one item.
+     *
+     * @param result     the resulting item, or null for {@link #NONE}
+     * @param experience the experience given by the recipe
+     */
+    public record Smelting(ItemStack result, float experience) {
+
+        /**
+         * Result of a material that cannot be smelted.
+         */
+        public static final Smelting NONE = new Smelting(null, 0);
+
+        static Smelting of(CookingRecipe<?> recipe) {
+            return new Smelting(recipe.getResult(), recipe.getExperience());
+        }
+
+        /**
+         * Checks whether the material can be smelted.
+         *
+         * @return false for {@link #NONE}
+         */
+        public boolean smeltable() {
+            return result != null;
+        }
+
+        /**
+         * Creates the smelted items of a stack.
+         *
+         * @param amount the amount of smelted items
+         * @return a new stack of the result
+         */
+        public ItemStack createResult(int amount) {
+            ItemStack item = result.clone();
+            item.setAmount(amount);
+            return item;
+        }
+    }
+
+    private final class PaperListener implements Listener {
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onResourcesReloaded(ServerResourcesReloadedEvent event) {
+            rebuild();
+        }
+    }
+}